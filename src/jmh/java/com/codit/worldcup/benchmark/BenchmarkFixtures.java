@@ -0,0 +1,153 @@
+package com.codit.worldcup.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.codit.worldcup.domain.entity.Candidate;
+import com.codit.worldcup.domain.entity.Comment;
+import com.codit.worldcup.domain.entity.User;
+import com.codit.worldcup.domain.entity.Worldcup;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.UserResultRepository;
+
+/**
+ * 벤치마크용 고정 데이터와 리포지토리 대역을 만듭니다.
+ * 💡 DB 없이 서비스의 DTO 변환 비용만 측정하기 위해 리포지토리는 메서드 이름별 응답을 돌려주는 프록시로 대신합니다.
+ */
+final class BenchmarkFixtures {
+
+	private BenchmarkFixtures() {
+	}
+
+	/**
+	 * 메서드 이름으로 응답을 찾는 리포지토리 대역. 등록되지 않은 메서드를 호출하면 예외가 발생합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			if (method.getDeclaringClass() == Object.class) {
+				return switch (method.getName()) {
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					default -> type.getSimpleName() + "Stub";
+				};
+			}
+			Function<Object[], Object> answer = answers.get(method.getName());
+			if (answer == null) {
+				throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			}
+			return answer.apply(args);
+		});
+	}
+
+	/**
+	 * 아무 일도 하지 않는 트랜잭션 매니저 대역 (TransactionTemplate을 쓰는 컴포넌트용)
+	 */
+	static PlatformTransactionManager transactionManager() {
+		return repository(PlatformTransactionManager.class, Map.of(
+			"getTransaction", args -> new SimpleTransactionStatus(),
+			"commit", args -> null,
+			"rollback", args -> null));
+	}
+
+	static List<CandidateRankRow> rankRows(List<Candidate> candidates) {
+		return candidates.stream()
+			.map(c -> new CandidateRankRow(c.getId(), c.getWorldcupId(), c.getName(), c.getWinCount(), c.getTotalSelectionCount()))
+			.toList();
+	}
+
+	static Worldcup worldcup(long id) {
+		Worldcup worldcup = Worldcup.builder()
+			.title("벤치마크 월드컵 " + id)
+			.thumbnailUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/worldcup/thumbnails/" + id + ".jpg")
+			.build();
+		return withId(worldcup, id);
+	}
+
+	static List<Candidate> candidates(long worldcupId, int count, long firstId) {
+		Random random = new Random(42);
+		List<Candidate> candidates = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Candidate candidate = Candidate.builder()
+				.worldcupId(worldcupId)
+				.name("후보 " + i)
+				.imageUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/worldcup/candidates/" + Long.toHexString(random.nextLong()) + ".jpg")
+				.build();
+			withId(candidate, firstId + i);
+			setField(candidate, "winCount", random.nextInt(1000));
+			setField(candidate, "totalSelectionCount", random.nextInt(100_000));
+			candidates.add(candidate);
+		}
+		return candidates;
+	}
+
+	static List<Comment> comments(long worldcupId, int count, int distinctUsers) {
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+		List<Comment> comments = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Comment comment = Comment.builder()
+				.worldcupId(worldcupId)
+				.userId((long) (i % distinctUsers) + 1)
+				.content("댓글 내용입니다. 번호 " + i)
+				.build();
+			withId(comment, (long) count - i);
+			setField(comment, "createdAt", now.minusSeconds(i));
+			comments.add(comment);
+		}
+		return comments;
+	}
+
+	static List<User> users(List<Long> ids) {
+		List<User> users = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			User user = User.builder().nickname("user" + id).password("x").role("USER").build();
+			users.add(withId(user, id));
+		}
+		return users;
+	}
+
+	static List<UserResultRepository.WinnerVoter> winnerVoters(List<Long> candidateIds, int votersPerCandidate) {
+		List<UserResultRepository.WinnerVoter> voters = new ArrayList<>();
+		for (Long candidateId : candidateIds) {
+			for (int i = 0; i < votersPerCandidate; i++) {
+				long userId = (candidateId * 31 + i) % 500 + 1;
+				voters.add(new UserResultRepository.WinnerVoter() {
+					@Override
+					public Long getWinnerId() {
+						return candidateId;
+					}
+
+					@Override
+					public Long getUserId() {
+						return userId;
+					}
+				});
+			}
+		}
+		return voters;
+	}
+
+	static <T> T withId(T entity, Long id) {
+		setField(entity, "id", id);
+		return entity;
+	}
+
+	private static void setField(Object target, String name, Object value) {
+		try {
+			Field field = target.getClass().getDeclaredField(name);
+			field.setAccessible(true);
+			field.set(target, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.codit.worldcup.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codit.worldcup.presentation.dto.WorldcupCreateRequest;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 월드컵 생성/수정 요청의 candidatesDataJson을 WorldcupCreateRequest로 파싱하는 비용을 측정합니다.
+ * 💡 WorldcupService와 같은 방식(new ObjectMapper())으로 파싱합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateRequestParsingBenchmark {
+
+	@Param({"16", "256", "1024"})
+	private int candidateCount;
+
+	private ObjectMapper objectMapper;
+	private String candidatesDataJson;
+
+	@Setup(Level.Trial)
+	public void createJson() {
+		objectMapper = new ObjectMapper();
+
+		StringBuilder json = new StringBuilder("{\"title\":\"벤치마크 월드컵\",\"candidates\":[");
+		for (int i = 0; i < candidateCount; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"id\":\"").append(i)
+				.append("\",\"name\":\"후보 ").append(i)
+				.append("\",\"imagePath\":\"https://bucket.s3.ap-northeast-2.amazonaws.com/worldcup/candidates/").append(i).append(".jpg\"}");
+		}
+		candidatesDataJson = json.append("]}").toString();
+	}
+
+	@Benchmark
+	public WorldcupCreateRequest parse() {
+		return objectMapper.readValue(candidatesDataJson, WorldcupCreateRequest.class);
+	}
+}
@@ -0,0 +1,87 @@
+package com.codit.worldcup.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codit.worldcup.presentation.dto.CandidateRankResponse;
+import com.codit.worldcup.presentation.dto.CommentResponse;
+import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
+import com.codit.worldcup.presentation.dto.WorldcupListResponse;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 응답 DTO를 JSON 바이트로 직렬화하는 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	@Param({"16", "256", "1024"})
+	private int size;
+
+	private ObjectMapper objectMapper;
+	private List<WorldcupListResponse> worldcupList;
+	private WorldcupDetailResponse worldcupDetail;
+	private List<CommentResponse> comments;
+	private List<CandidateRankResponse> ranks;
+
+	@Setup(Level.Trial)
+	public void createResponses() {
+		objectMapper = JsonMapper.builder().build();
+
+		worldcupList = new ArrayList<>(size);
+		List<WorldcupDetailResponse.CandidateDto> candidates = new ArrayList<>(size);
+		comments = new ArrayList<>(size);
+		ranks = new ArrayList<>(size);
+		LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+		for (int i = 0; i < size; i++) {
+			String imageUrl = "https://bucket.s3.ap-northeast-2.amazonaws.com/worldcup/candidates/" + i + ".jpg";
+			worldcupList.add(new WorldcupListResponse((long) i, "월드컵 " + i, imageUrl));
+			candidates.add(new WorldcupDetailResponse.CandidateDto((long) i, "후보 " + i, imageUrl));
+			comments.add(new CommentResponse((long) i, "user" + i, "댓글 내용입니다. 번호 " + i, now.minusSeconds(i)));
+			ranks.add(new CandidateRankResponse((long) i, "후보 " + i, size - i, i * 10, 0L, List.of("user1", "user2", "user3")));
+		}
+		worldcupDetail = new WorldcupDetailResponse(1L, "벤치마크 월드컵", "https://bucket/thumbnail.jpg", candidates);
+	}
+
+	@Benchmark
+	public byte[] worldcupList() {
+		return objectMapper.writeValueAsBytes(worldcupList);
+	}
+
+	@Benchmark
+	public byte[] worldcupDetail() {
+		return objectMapper.writeValueAsBytes(worldcupDetail);
+	}
+
+	@Benchmark
+	public byte[] comments() {
+		return objectMapper.writeValueAsBytes(comments);
+	}
+
+	@Benchmark
+	public byte[] ranks() {
+		return objectMapper.writeValueAsBytes(ranks);
+	}
+}
@@ -0,0 +1,61 @@
+package com.codit.worldcup.benchmark;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codit.worldcup.application.service.Leaderboard;
+
+/**
+ * 랭킹 정렬 기준(Leaderboard.RANK_ORDER)으로 후보 전체를 정렬하는 비용을 측정합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RankComparatorBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	private int candidateCount;
+
+	private Leaderboard.RankEntry[] source;
+	private Leaderboard.RankEntry[] working;
+
+	@Setup(Level.Trial)
+	public void createEntries() {
+		Random random = new Random(42);
+		source = new Leaderboard.RankEntry[candidateCount];
+		for (int i = 0; i < candidateCount; i++) {
+			// 💡 동점이 충분히 나오도록 승리 횟수 범위를 좁혀 이름/ID 비교까지 내려가게 합니다.
+			source[i] = new Leaderboard.RankEntry((long) i, (long) (i % 100), "후보 " + random.nextInt(candidateCount),
+				random.nextInt(50), random.nextInt(10_000));
+		}
+		working = new Leaderboard.RankEntry[candidateCount];
+	}
+
+	@Setup(Level.Invocation)
+	public void reset() {
+		System.arraycopy(source, 0, working, 0, candidateCount);
+	}
+
+	@Benchmark
+	public Leaderboard.RankEntry[] sortAll() {
+		Arrays.sort(working, Leaderboard.RANK_ORDER);
+		return working;
+	}
+}
@@ -0,0 +1,78 @@
+package com.codit.worldcup.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codit.worldcup.application.service.JsonResponseCache;
+import com.codit.worldcup.presentation.dto.CandidateRankResponse;
+import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 응답 인코딩(JSON/CBOR/Smile × gzip)별 직렬화 CPU 비용과 전송 바이트 수를 비교합니다.
+ * 💡 시간은 JMH 결과로, 바이트 수는 Setup에서 한 번 계산해 "wire bytes" 줄로 콘솔에 출력합니다.
+ *    캐시된 응답은 이 비용을 항목당 한 번만 치르므로, 캐시 미스 비용과 캐시되지 않는 응답(랭킹)의 비용으로 보면 됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseEncodingBenchmark {
+
+	@Param({"JSON", "CBOR", "SMILE"})
+	private JsonResponseCache.Format format;
+
+	@Param({"false", "true"})
+	private boolean gzip;
+
+	@Param({"64", "1024"})
+	private int size;
+
+	private JsonResponseCache encoder;
+	private WorldcupDetailResponse worldcupDetail;
+	private List<CandidateRankResponse> ranks;
+
+	@Setup(Level.Trial)
+	public void createResponses() {
+		encoder = new JsonResponseCache(JsonMapper.builder().build(), BenchmarkFixtures.transactionManager(), 1, 300);
+
+		List<WorldcupDetailResponse.CandidateDto> candidates = new ArrayList<>(size);
+		ranks = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			String imageUrl = "https://bucket.s3.ap-northeast-2.amazonaws.com/worldcup/candidates/" + i + ".jpg";
+			candidates.add(new WorldcupDetailResponse.CandidateDto((long) i, "후보 " + i, imageUrl));
+			ranks.add(new CandidateRankResponse((long) i, "후보 " + i, size - i, i * 10, i * 3L, List.of("user1", "user2", "user3")));
+		}
+		worldcupDetail = new WorldcupDetailResponse(1L, "벤치마크 월드컵", "https://bucket/thumbnail.jpg", candidates);
+
+		System.out.printf("%nwire bytes [format=%s, gzip=%s, size=%d] detail=%d ranks=%d%n", format, gzip, size,
+			encoder.encode(worldcupDetail, format, gzip).length, encoder.encode(ranks, format, gzip).length);
+	}
+
+	@Benchmark
+	public byte[] worldcupDetail() {
+		return encoder.encode(worldcupDetail, format, gzip);
+	}
+
+	@Benchmark
+	public byte[] ranks() {
+		return encoder.encode(ranks, format, gzip);
+	}
+}
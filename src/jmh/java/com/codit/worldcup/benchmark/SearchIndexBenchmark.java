@@ -0,0 +1,88 @@
+package com.codit.worldcup.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codit.worldcup.application.service.SearchIndex;
+import com.codit.worldcup.domain.entity.Candidate;
+import com.codit.worldcup.domain.entity.Worldcup;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 메모리 검색 색인의 조회 비용(제목/후보 부분 문자열, 초성)과 기동 시 재구성 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+	private static final String[] TITLE_WORDS = {"아이돌", "라면", "치킨", "여행지", "영화", "게임", "음식", "가수", "배우", "드라마"};
+
+	@Param({"1000", "10000"})
+	private int worldcupCount;
+
+	private SearchIndex searchIndex;
+
+	@Setup(Level.Trial)
+	public void buildIndex() {
+		List<Worldcup> worldcups = new ArrayList<>(worldcupCount);
+		List<CandidateRankRow> rows = new ArrayList<>();
+		for (int i = 0; i < worldcupCount; i++) {
+			long worldcupId = i + 1;
+			Worldcup worldcup = BenchmarkFixtures.worldcup(worldcupId);
+			worldcup.update(TITLE_WORDS[i % TITLE_WORDS.length] + " 이상형 월드컵 " + i, worldcup.getThumbnailUrl());
+			worldcups.add(worldcup);
+			for (Candidate candidate : BenchmarkFixtures.candidates(worldcupId, 16, worldcupId * 100)) {
+				rows.add(new CandidateRankRow(candidate.getId(), worldcupId, candidate.getName(), 0, 0));
+			}
+		}
+		WorldcupRepository worldcupRepository = BenchmarkFixtures.repository(WorldcupRepository.class, Map.of(
+			"findAllByDeletedFalse", args -> worldcups));
+		CandidateRepository candidateRepository = BenchmarkFixtures.repository(CandidateRepository.class, Map.of(
+			"streamRankRows", args -> rows.stream()));
+
+		searchIndex = new SearchIndex(worldcupRepository, candidateRepository, BenchmarkFixtures.transactionManager());
+		searchIndex.rebuild();
+	}
+
+	@Benchmark
+	public SearchIndex.Page searchTitle() {
+		return searchIndex.search("치킨 월드컵", 0, 20);
+	}
+
+	@Benchmark
+	public SearchIndex.Page searchCandidateName() {
+		return searchIndex.search("후보 7", 0, 20);
+	}
+
+	@Benchmark
+	public SearchIndex.Page searchChoseong() {
+		return searchIndex.search("ㅇㅇㄷ", 0, 20);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	public void rebuild() {
+		searchIndex.rebuild();
+	}
+}
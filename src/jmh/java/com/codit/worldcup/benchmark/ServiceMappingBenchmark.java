@@ -0,0 +1,128 @@
+package com.codit.worldcup.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codit.worldcup.application.service.Leaderboard;
+import com.codit.worldcup.application.service.NicknameResolver;
+import com.codit.worldcup.application.service.RankBroadcaster;
+import com.codit.worldcup.application.service.SearchIndex;
+import com.codit.worldcup.application.service.SelectionDeduplicator;
+import com.codit.worldcup.application.service.TrendingTracker;
+import com.codit.worldcup.application.service.VoterSketches;
+import com.codit.worldcup.application.service.WorldcupService;
+import com.codit.worldcup.domain.entity.Candidate;
+import com.codit.worldcup.domain.entity.Comment;
+import com.codit.worldcup.domain.entity.Worldcup;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.CommentRepository;
+import com.codit.worldcup.domain.repository.UserRepository;
+import com.codit.worldcup.domain.repository.UserResultRepository;
+import com.codit.worldcup.domain.repository.VoterSketchRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+import com.codit.worldcup.presentation.dto.CandidateRankResponse;
+import com.codit.worldcup.presentation.dto.CommentResponse;
+import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * WorldcupService 조회 메서드의 엔티티 → DTO 변환 비용을 측정합니다.
+ * 💡 리포지토리는 미리 만든 엔티티를 그대로 돌려주므로 DB 왕복은 포함되지 않습니다.
+ *    닉네임 캐시는 첫 호출 이후 채워지므로 캐시가 따뜻한 상태의 비용이 측정됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceMappingBenchmark {
+
+	private static final long WORLDCUP_ID = 1L;
+
+	@Param({"16", "256", "1024"})
+	private int size;
+
+	private WorldcupService worldcupService;
+	private Leaderboard streamingLeaderboard;
+
+	@Setup(Level.Trial)
+	public void createService() {
+		Worldcup worldcup = BenchmarkFixtures.worldcup(WORLDCUP_ID);
+		List<Candidate> candidates = BenchmarkFixtures.candidates(WORLDCUP_ID, size, 1_000L);
+		List<Comment> comments = BenchmarkFixtures.comments(WORLDCUP_ID, size, Math.max(1, size / 4));
+		List<Long> candidateIds = candidates.stream().map(Candidate::getId).toList();
+		List<UserResultRepository.WinnerVoter> voters = BenchmarkFixtures.winnerVoters(candidateIds, 5);
+
+		WorldcupRepository worldcupRepository = BenchmarkFixtures.repository(WorldcupRepository.class, Map.of(
+			"findById", args -> Optional.of(worldcup)));
+		List<CandidateRankRow> rankRows = BenchmarkFixtures.rankRows(candidates);
+		CandidateRepository candidateRepository = BenchmarkFixtures.repository(CandidateRepository.class, Map.of(
+			"findAllByWorldcupId", args -> candidates,
+			"streamRankRows", args -> rankRows.stream()));
+		CommentRepository commentRepository = BenchmarkFixtures.repository(CommentRepository.class, Map.of(
+			"findAllByWorldcupIdOrderByCreatedAtDesc", args -> comments));
+		UserResultRepository userResultRepository = BenchmarkFixtures.repository(UserResultRepository.class, Map.of(
+			"findWinnerVotersByWinnerIdIn", args -> voters));
+		UserRepository userRepository = BenchmarkFixtures.repository(UserRepository.class, Map.of(
+			"findAllById", args -> {
+				List<Long> ids = new ArrayList<>();
+				((Iterable<?>) args[0]).forEach(id -> ids.add((Long) id));
+				return BenchmarkFixtures.users(ids);
+			}));
+
+		Leaderboard leaderboard = new Leaderboard(candidateRepository, BenchmarkFixtures.transactionManager(), true, 10_000);
+		leaderboard.rebuild();
+		// 전체 랭킹 인덱스를 끈 경우: 매 조회마다 스트림을 훑으며 힙으로 상위 K개를 고릅니다.
+		streamingLeaderboard = new Leaderboard(candidateRepository, BenchmarkFixtures.transactionManager(), false, 10_000);
+
+		// 측정 대상 경로에서 사용하지 않는 협력 객체(S3, 이미지, 집계, 응답 캐시, 트랜잭션)는 비워 둡니다.
+		worldcupService = new WorldcupService(userResultRepository, worldcupRepository, candidateRepository,
+			new NicknameResolver(userRepository, 10_000), commentRepository,
+			null, null, null, leaderboard, null,
+			new VoterSketches(BenchmarkFixtures.repository(VoterSketchRepository.class, Map.of()), BenchmarkFixtures.transactionManager()),
+			new TrendingTracker(List.of("1h"), 100, 5_000),
+			new SearchIndex(worldcupRepository, candidateRepository, BenchmarkFixtures.transactionManager()),
+			new RankBroadcaster(leaderboard, new ObjectMapper(), new SimpleMeterRegistry(), 50, 16, 60_000, 15_000, 10_000),
+			new SelectionDeduplicator(new SimpleMeterRegistry(), 60, 100_000, 600, 500_000, 0.0001), null);
+	}
+
+	@Benchmark
+	public WorldcupDetailResponse findWorldcupDetail() {
+		return worldcupService.findWorldcupDetail(WORLDCUP_ID);
+	}
+
+	@Benchmark
+	public List<CommentResponse> findCommentsByWorldcup() {
+		return worldcupService.findCommentsByWorldcup(WORLDCUP_ID);
+	}
+
+	@Benchmark
+	public List<CandidateRankResponse> calculateAndGetRank() {
+		return worldcupService.calculateAndGetRank(String.valueOf(WORLDCUP_ID), 0, null);
+	}
+
+	@Benchmark
+	public List<Leaderboard.RankEntry> selectTop10FromStream() {
+		return streamingLeaderboard.selectTop(0, 10);
+	}
+}
@@ -0,0 +1,230 @@
+package com.codit.worldcup.application.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 업로드된 원본 이미지로부터 화면 크기에 맞는 파생 이미지(썸네일/대진/전체)를 백그라운드에서 생성합니다.
+ * 💡 대진 화면에서 수 MB짜리 원본 대신 작은 JPEG를 내려주어 한 판당 전송량을 줄입니다.
+ *    파생 이미지가 아직 없거나 생성에 실패하면 응답은 원본 URL을 그대로 사용합니다.
+ */
+@Service
+public class ImageDerivativeService {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+	private static final float JPEG_QUALITY = 0.8f;
+
+	/**
+	 * 파생 이미지 종류와 긴 변 기준 최대 크기(px)
+	 */
+	public enum Variant {
+		THUMBNAIL(160),
+		BRACKET(480),
+		FULL(1080);
+
+		private final int maxEdge;
+
+		Variant(int maxEdge) {
+			this.maxEdge = maxEdge;
+		}
+	}
+
+	private final S3Service s3Service;
+	private final CandidateRepository candidateRepository;
+	private final WorldcupRepository worldcupRepository;
+	private final JsonResponseCache responseCache;
+	private final ThreadPoolExecutor executor;
+
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+	private final AtomicLong rejected = new AtomicLong();
+
+	public ImageDerivativeService(S3Service s3Service, CandidateRepository candidateRepository, WorldcupRepository worldcupRepository,
+		JsonResponseCache responseCache,
+		@Value("${worldcup.image.workers:2}") int workers,
+		@Value("${worldcup.image.queue-capacity:500}") int queueCapacity) {
+		this.s3Service = s3Service;
+		this.candidateRepository = candidateRepository;
+		this.worldcupRepository = worldcupRepository;
+		this.responseCache = responseCache;
+		// 💡 이미지 축소는 CPU 작업이므로 가상 스레드 모드에서도 코어 수에 맞춘 플랫폼 스레드를 사용합니다.
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "image-derivative-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 후보 이미지의 파생 이미지(썸네일/대진/전체) 생성을 예약합니다.
+	 */
+	public void submitCandidateImage(String imageUrl) {
+		submit(imageUrl, () -> {
+			Map<Variant, String> urls = generate(imageUrl, Variant.THUMBNAIL, Variant.BRACKET, Variant.FULL);
+			int updated = candidateRepository.updateImageVariants(imageUrl,
+				urls.get(Variant.THUMBNAIL), urls.get(Variant.BRACKET), urls.get(Variant.FULL));
+			if (updated > 0) {
+				responseCache.invalidateDetails(); // 상세 응답의 대진 이미지 URL이 바뀜
+			}
+		});
+	}
+
+	/**
+	 * 월드컵 썸네일의 목록용 파생 이미지 생성을 예약합니다.
+	 */
+	public void submitWorldcupThumbnail(String thumbnailUrl) {
+		submit(thumbnailUrl, () -> {
+			Map<Variant, String> urls = generate(thumbnailUrl, Variant.BRACKET);
+			if (worldcupRepository.updateThumbnailPreview(thumbnailUrl, urls.get(Variant.BRACKET)) > 0) {
+				responseCache.invalidateMainList(); // 목록 응답의 썸네일 URL이 바뀜
+			}
+		});
+	}
+
+	public Status status() {
+		return new Status(executor.getQueue().size(), executor.getActiveCount(), completed.get(), failed.get(), rejected.get());
+	}
+
+	public record Status(int queued, int active, long completed, long failed, long rejected) {
+	}
+
+	private void submit(String originalUrl, Runnable job) {
+		if (originalUrl == null || originalUrl.isEmpty()) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					job.run();
+					completed.incrementAndGet();
+				} catch (RuntimeException e) {
+					failed.incrementAndGet();
+					log.warn("파생 이미지 생성에 실패했습니다. url={}, reason={}", originalUrl, e.getMessage());
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// 큐가 가득 차면 파생 이미지 없이 원본을 계속 사용합니다.
+			rejected.incrementAndGet();
+			log.warn("파생 이미지 작업 큐가 가득 차 건너뜁니다. url={}", originalUrl);
+		}
+	}
+
+	private Map<Variant, String> generate(String originalUrl, Variant... variants) {
+		String baseKey = derivedBaseKey(originalUrl);
+		BufferedImage original = null;
+
+		Map<Variant, String> urls = new EnumMap<>(Variant.class);
+		for (Variant variant : variants) {
+			String key = "derived/" + variant.name().toLowerCase() + "/" + baseKey + ".jpg";
+			// 💡 원본 키가 내용 해시이므로, 같은 원본의 파생 이미지가 이미 있으면 다시 만들지 않습니다.
+			if (s3Service.reusable(key)) {
+				urls.put(variant, s3Service.urlOf(key));
+				continue;
+			}
+			if (original == null) {
+				original = decode(s3Service.downloadFile(originalUrl));
+			}
+			byte[] jpeg = encodeJpeg(resize(original, variant.maxEdge));
+			urls.put(variant, s3Service.putBytes(key, jpeg, "image/jpeg"));
+		}
+		return urls;
+	}
+
+	// 원본 키에서 확장자를 뗀 값 (예: worldcup/candidates/abc.png -> worldcup/candidates/abc)
+	private String derivedBaseKey(String originalUrl) {
+		String key = s3Service.keyOf(originalUrl);
+		if (key == null) {
+			throw new IllegalArgumentException("이 버킷의 파일이 아닙니다: " + originalUrl);
+		}
+		int dot = key.lastIndexOf('.');
+		return dot > key.lastIndexOf('/') ? key.substring(0, dot) : key;
+	}
+
+	private static BufferedImage decode(byte[] bytes) {
+		try {
+			BufferedImage image = ImageIO.read(new ByteArrayInputStream(bytes));
+			if (image == null) {
+				throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+			}
+			return image;
+		} catch (IOException e) {
+			throw new IllegalArgumentException("이미지를 읽을 수 없습니다: " + e.getMessage());
+		}
+	}
+
+	// 긴 변이 maxEdge를 넘지 않도록 비율을 유지하며 축소합니다. (확대하지 않음)
+	// JPEG는 알파 채널이 없으므로 흰 배경 위에 그립니다.
+	private static BufferedImage resize(BufferedImage source, int maxEdge) {
+		double scale = Math.min(1.0, (double) maxEdge / Math.max(source.getWidth(), source.getHeight()));
+		int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+		int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private static byte[] encodeJpeg(BufferedImage image) {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+			writer.setOutput(output);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} catch (IOException e) {
+			throw new IllegalStateException("JPEG 인코딩에 실패했습니다: " + e.getMessage());
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,264 @@
+package com.codit.worldcup.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * 자주 바뀌지 않는 조회 응답(메인 목록, 월드컵 상세)을 JSON 바이트로 직렬화한 상태 그대로 보관합니다.
+ * 💡 캐시 적중 시에는 DB 조회와 Jackson 직렬화 없이 맵 조회 한 번으로 응답 본문과 ETag를 돌려줍니다.
+ *    크기 제한이 있는 LRU + TTL로 만료되며, 월드컵이 생성/수정/삭제되면 명시적으로 무효화됩니다.
+ * 💡 캐시를 채울 때는 복제본이 아닌 원본 DB에서 읽습니다. 무효화 직후 복제 지연으로 이전 내용을 읽어
+ *    TTL 동안 오래된 응답을 캐시하는 일을 막기 위해서입니다. (캐시 미스 때만이므로 원본 부하는 작습니다)
+ * 💡 CBOR/Smile 바이너리 인코딩과 gzip 압축본은 처음 요청될 때 한 번만 만들어 같은 항목에 붙여 두고 재사용합니다.
+ */
+@Component
+public class JsonResponseCache {
+
+	private static final String MAIN_LIST_KEY = "main";
+	private static final String DETAIL_KEY_PREFIX = "detail:";
+
+	private final ObjectMapper objectMapper;
+	private final ObjectMapper cborMapper = CBORMapper.builder().build();
+	private final ObjectMapper smileMapper = SmileMapper.builder().build();
+	private final long ttlNanos;
+	private final TransactionTemplate primaryRead;
+	private final Map<String, CachedJson> cache;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	// 💡 무효화될 때마다 증가합니다. 조회 도중 무효화가 일어났다면 오래된 결과를 캐시에 넣지 않습니다.
+	private long generation;
+
+	public JsonResponseCache(ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+		@Value("${worldcup.response-cache.max-size:1000}") int maxSize,
+		@Value("${worldcup.response-cache.ttl-seconds:300}") long ttlSeconds) {
+		this.objectMapper = objectMapper;
+		// 💡 읽기-쓰기 트랜잭션 안에서 조회하면 안쪽의 readOnly 트랜잭션이 여기에 참여하므로 원본 DB로 라우팅됩니다.
+		this.primaryRead = new TransactionTemplate(transactionManager);
+		this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedJson> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 응답 본문 인코딩 (Accept 헤더로 고릅니다)
+	 */
+	public enum Format {
+		JSON("application/json"),
+		CBOR("application/cbor"),
+		SMILE("application/x-jackson-smile");
+
+		private final String mediaType;
+
+		Format(String mediaType) {
+			this.mediaType = mediaType;
+		}
+
+		public String mediaType() {
+			return mediaType;
+		}
+	}
+
+	/**
+	 * 인코딩/압축을 마친 응답 본문과 그 ETag (압축하지 않았다면 contentEncoding은 null)
+	 */
+	public record Encoded(byte[] body, String etag, String contentEncoding) {
+	}
+
+	/**
+	 * 직렬화된 응답 본문과 그 ETag
+	 * 💡 원본 응답 객체를 함께 들고 있다가 다른 인코딩이 요청되면 그때 한 번 만들어 둡니다.
+	 */
+	public final class CachedJson {
+
+		private final Object value;
+		private final Encoded json;
+		private final long expiresAt;
+		// Format × (원본, gzip) 조합별 인코딩 결과
+		private final AtomicReferenceArray<Encoded> variants = new AtomicReferenceArray<>(Format.values().length * 2);
+
+		private CachedJson(Object value, byte[] body, long expiresAt) {
+			this.value = value;
+			this.json = new Encoded(body, etagOf(body), null);
+			this.expiresAt = expiresAt;
+			variants.set(variantIndex(Format.JSON, false), json);
+		}
+
+		public byte[] body() {
+			return json.body();
+		}
+
+		public String etag() {
+			return json.etag();
+		}
+
+		public long expiresAt() {
+			return expiresAt;
+		}
+
+		/**
+		 * 요청한 인코딩의 본문을 돌려줍니다. 처음 요청된 조합이면 여기서 만들어 기억합니다.
+		 * 💡 동시에 처음 요청되면 양쪽이 모두 만들 수 있지만 결과가 같으므로 먼저 저장된 것을 씁니다.
+		 */
+		public Encoded variant(Format format, boolean gzip) {
+			int index = variantIndex(format, gzip);
+			Encoded encoded = variants.get(index);
+			if (encoded != null) {
+				return encoded;
+			}
+			Encoded plain = gzip ? variant(format, false) : null;
+			byte[] body = gzip ? gzip(plain.body()) : serialize(value, format);
+			// 💡 표현마다 ETag가 달라야 하므로 형식/압축을 접미사로 붙입니다. (If-None-Match 비교도 표현별로 이루어집니다)
+			String suffix = (format == Format.JSON ? "" : "-" + format.name().toLowerCase()) + (gzip ? "-gzip" : "");
+			String etag = json.etag().substring(0, json.etag().length() - 1) + suffix + "\"";
+			Encoded created = new Encoded(body, etag, gzip ? "gzip" : null);
+			Encoded raced = variants.compareAndExchange(index, null, created);
+			return raced != null ? raced : created;
+		}
+	}
+
+	public CachedJson mainList(Supplier<?> loader) {
+		return get(MAIN_LIST_KEY, loader);
+	}
+
+	public CachedJson worldcupDetail(Long worldcupId, Supplier<?> loader) {
+		return get(DETAIL_KEY_PREFIX + worldcupId, loader);
+	}
+
+	private CachedJson get(String key, Supplier<?> loader) {
+		long startGeneration;
+		lock.lock();
+		try {
+			CachedJson cached = cache.get(key);
+			if (cached != null && cached.expiresAt() - System.nanoTime() > 0) {
+				return cached;
+			}
+			startGeneration = generation;
+		} finally {
+			lock.unlock();
+		}
+
+		// 캐시 미스: 잠금 밖에서 조회/직렬화 (예외는 그대로 전파되어 캐시에 남지 않습니다)
+		Object value = primaryRead.execute(status -> loader.get());
+		CachedJson loaded = new CachedJson(value, objectMapper.writeValueAsBytes(value), System.nanoTime() + ttlNanos);
+
+		lock.lock();
+		try {
+			if (generation == startGeneration) {
+				cache.put(key, loaded);
+			}
+		} finally {
+			lock.unlock();
+		}
+		return loaded;
+	}
+
+	/**
+	 * 월드컵 하나가 생성/수정/삭제되었을 때 해당 상세와 메인 목록을 무효화합니다.
+	 */
+	public void invalidateWorldcup(Long worldcupId) {
+		lock.lock();
+		try {
+			generation++;
+			cache.remove(DETAIL_KEY_PREFIX + worldcupId);
+			cache.remove(MAIN_LIST_KEY);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 메인 목록만 무효화합니다. (목록용 썸네일이 바뀐 경우)
+	 */
+	public void invalidateMainList() {
+		lock.lock();
+		try {
+			generation++;
+			cache.remove(MAIN_LIST_KEY);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 모든 월드컵 상세를 무효화합니다. (후보 이미지 URL만으로는 어느 월드컵인지 알 수 없는 경우)
+	 */
+	public void invalidateDetails() {
+		lock.lock();
+		try {
+			generation++;
+			cache.keySet().removeIf(key -> key.startsWith(DETAIL_KEY_PREFIX));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 응답 객체를 주어진 형식으로 직렬화하고 필요하면 gzip으로 압축합니다. (캐시하지 않음, 벤치마크용)
+	 */
+	public byte[] encode(Object value, Format format, boolean gzip) {
+		byte[] body = serialize(value, format);
+		return gzip ? gzip(body) : body;
+	}
+
+	private byte[] serialize(Object value, Format format) {
+		return switch (format) {
+			case JSON -> objectMapper.writeValueAsBytes(value);
+			case CBOR -> cborMapper.writeValueAsBytes(value);
+			case SMILE -> smileMapper.writeValueAsBytes(value);
+		};
+	}
+
+	private static int variantIndex(Format format, boolean gzip) {
+		return format.ordinal() * 2 + (gzip ? 1 : 0);
+	}
+
+	// 💡 항목마다 한 번만 압축하므로 속도보다 압축률을 우선합니다.
+	private static byte[] gzip(byte[] body) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+			{
+				def.setLevel(Deflater.BEST_COMPRESSION);
+			}
+		}) {
+			gzip.write(body);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return out.toByteArray();
+	}
+
+	// 💡 내용 기반 ETag이므로 서버 재시작이나 다른 인스턴스에서도 같은 응답이면 같은 값이 나옵니다.
+	private static String etagOf(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
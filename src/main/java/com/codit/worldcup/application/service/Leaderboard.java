@@ -0,0 +1,502 @@
+package com.codit.worldcup.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.codit.worldcup.domain.entity.Candidate;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+
+/**
+ * 월드컵별 랭킹과 전체 통합 랭킹을 메모리에 정렬된 상태로 유지합니다.
+ * 💡 매 요청마다 후보 전체를 읽어 정렬하는 대신, 선택이 기록될 때마다 해당 후보의 위치만 갱신합니다.
+ *    정렬 기준: 1등 횟수 내림차순 → 총 선택 횟수 내림차순 → 이름 오름차순
+ *    후보가 아주 많아 전체 통합 랭킹을 메모리에 두기 부담스러우면 worldcup.leaderboard.global-index.enabled=false로 끄고,
+ *    전체 랭킹은 selectTop()으로 DB에서 필요한 구간만 골라냅니다.
+ */
+@Component
+public class Leaderboard implements SmartInitializingSingleton {
+
+	public static final Comparator<RankEntry> RANK_ORDER = Comparator
+		.comparingInt(RankEntry::winCount).reversed()
+		.thenComparing(Comparator.comparingInt(RankEntry::totalSelectionCount).reversed())
+		.thenComparing(RankEntry::name)
+		.thenComparing(RankEntry::candidateId); // 동점자 구분용 (트리 키가 유일해야 함)
+
+	private final CandidateRepository candidateRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final boolean globalIndexEnabled;
+	private final int maxWindow;
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+
+	// 💡 다시 적재할 때는 새 State를 따로 만든 뒤 한 번에 바꿔 끼우므로, 조회는 적재 도중에도 이전 랭킹 전체를 봅니다.
+	private volatile State state;
+	// 다시 적재하는 동안 이전 State에 반영된 선택 (적재가 끝나면 새 State에 옮겨 담습니다)
+	private volatile Carryover carryover;
+
+	public Leaderboard(CandidateRepository candidateRepository, PlatformTransactionManager transactionManager,
+		@Value("${worldcup.leaderboard.global-index.enabled:true}") boolean globalIndexEnabled,
+		@Value("${worldcup.leaderboard.max-window:10000}") int maxWindow) {
+		this.candidateRepository = candidateRepository;
+		this.maxWindow = maxWindow;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.globalIndexEnabled = globalIndexEnabled;
+		this.state = new State(globalIndexEnabled);
+	}
+
+	/**
+	 * 💡 싱글톤 생성이 모두 끝난 뒤, 웹 서버가 요청을 받기 시작하기 전에 처음 적재합니다.
+	 *    그래서 첫 투표가 들어올 때는 모든 후보가 이미 랭킹에 있습니다.
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		rebuild();
+	}
+
+	/**
+	 * DB의 후보 전체로 랭킹을 다시 구성합니다.
+	 * 💡 적재하는 동안 들어온 선택과 후보 추가/삭제는 이전 State에 반영되면서 따로 기록되고, 새 State로 바꿔 끼운 뒤 옮겨 담기므로 누락되지 않습니다.
+	 *    (기동 후 다시 적재하는 경우, 그 사이 VoteAggregator가 이미 DB에 반영한 선택은 중복으로 더해질 수 있습니다)
+	 */
+	public void rebuild() {
+		rebuildLock.lock();
+		try {
+			State previous = state;
+			Carryover pending = new Carryover(previous);
+			carryover = pending;
+
+			State fresh = new State(globalIndexEnabled);
+			// 💡 엔티티 대신 랭킹에 필요한 컬럼만 스트리밍으로 읽어 적재합니다.
+			readOnlyTransaction.executeWithoutResult(status -> {
+				try (Stream<CandidateRankRow> rows = candidateRepository.streamRankRows()) {
+					rows.forEach(row -> fresh.put(
+						new RankEntry(row.id(), row.worldcupId(), row.name(), row.winCount(), row.totalSelectionCount())));
+				}
+			});
+
+			state = fresh;
+			carryover = null;
+			pending.drainInto(fresh);
+		} finally {
+			rebuildLock.unlock();
+		}
+	}
+
+	public boolean hasGlobalIndex() {
+		return globalIndexEnabled;
+	}
+
+	/**
+	 * 후보를 랭킹에 추가하거나, 이미 있는 경우 이름만 갱신합니다. (집계 중인 카운트는 유지)
+	 */
+	public void put(Candidate candidate) {
+		apply(current -> current.put(candidate));
+	}
+
+	public void putAll(Collection<Candidate> candidates) {
+		candidates.forEach(this::put);
+	}
+
+	/**
+	 * 후보의 현재 랭킹 항목을 반환합니다. 랭킹에 없는 후보(없는 ID, 삭제된 월드컵의 후보)면 null입니다.
+	 */
+	public RankEntry entry(Long candidateId) {
+		return state.entries.get(candidateId);
+	}
+
+	/**
+	 * 선택 기록을 랭킹에 반영합니다.
+	 * @param candidateId 선택된 후보 ID
+	 * @param win 결승에서 선택되어 1등이 되었는지 여부
+	 */
+	public void increment(Long candidateId, boolean win) {
+		// 💡 carryover를 state보다 먼저 읽어야, 바꿔 끼우기 직전의 State에 반영한 선택을 놓치지 않습니다.
+		Carryover pending = carryover;
+		State current = state;
+		current.increment(candidateId, win ? 1 : 0, 1);
+		if (pending != null && pending.previous == current) {
+			pending.record(candidateId, win);
+		}
+	}
+
+	public void remove(Long candidateId) {
+		apply(current -> current.remove(candidateId));
+	}
+
+	public void removeWorldcup(Long worldcupId) {
+		apply(current -> current.removeWorldcup(worldcupId));
+	}
+
+	// 후보 추가/삭제도 다시 적재하는 도중이면 기록해 두었다가 새 State에 다시 적용합니다.
+	private void apply(Consumer<State> operation) {
+		Carryover pending = carryover;
+		State current = state;
+		operation.accept(current);
+		if (pending != null && pending.previous == current) {
+			pending.record(operation);
+		}
+	}
+
+	/**
+	 * 랭킹의 일부 구간을 반환합니다. O(log n + limit)
+	 * @param worldcupId 월드컵 ID (null이면 전체 통합 랭킹)
+	 * @param offset 건너뛸 순위 수
+	 * @param limit 반환할 최대 개수
+	 */
+	public List<RankEntry> page(Long worldcupId, int offset, int limit) {
+		if (worldcupId == null && !globalIndexEnabled) {
+			return selectTop(offset, limit);
+		}
+		State current = state;
+		RankTree board = (worldcupId == null) ? current.globalBoard : current.worldcupBoards.get(worldcupId);
+		if (board == null) {
+			return List.of();
+		}
+		return board.page(offset, limit);
+	}
+
+	/**
+	 * 전체 통합 랭킹의 [offset, offset + limit) 구간을 DB에서 골라냅니다. (전체 랭킹 인덱스를 끈 경우)
+	 * 💡 후보 전체를 정렬하지 않고, 크기가 offset + limit인 힙에 상위 후보만 유지하므로 메모리는 후보 수가 아닌 K에 비례합니다.
+	 *    DB 카운트는 VoteAggregator가 flush한 시점까지의 값입니다.
+	 *    K는 worldcup.leaderboard.max-window를 넘지 않도록 잘립니다. (limit 없이 요청해도 상위 max-window개까지만)
+	 */
+	public List<RankEntry> selectTop(int offset, int limit) {
+		if (offset >= maxWindow) {
+			throw new IllegalArgumentException("조회할 수 있는 랭킹 범위를 넘었습니다. (최대 " + maxWindow + "위)");
+		}
+		int k = (int)Math.min((long)offset + limit, maxWindow);
+		// 힙의 맨 앞에는 지금까지 고른 후보 중 가장 순위가 낮은 후보가 옵니다.
+		PriorityQueue<RankEntry> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, RANK_ORDER.reversed());
+		readOnlyTransaction.executeWithoutResult(status -> {
+			try (Stream<CandidateRankRow> rows = candidateRepository.streamRankRows()) {
+				rows.forEach(row -> {
+					RankEntry entry = new RankEntry(row.id(), row.worldcupId(), row.name(), row.winCount(), row.totalSelectionCount());
+					if (heap.size() < k) {
+						heap.add(entry);
+					} else if (RANK_ORDER.compare(entry, heap.peek()) < 0) {
+						heap.poll();
+						heap.add(entry);
+					}
+				});
+			}
+		});
+
+		List<RankEntry> top = new ArrayList<>(heap);
+		top.sort(RANK_ORDER);
+		return (offset >= top.size()) ? List.of() : top.subList(offset, top.size());
+	}
+
+	/**
+	 * 후보 항목(원본)과 그로부터 만든 월드컵별/전체 정렬 트리 묶음
+	 */
+	private static final class State {
+
+		private final Map<Long, RankEntry> entries = new ConcurrentHashMap<>();
+		private final Map<Long, RankTree> worldcupBoards = new ConcurrentHashMap<>();
+		private final RankTree globalBoard; // 비활성화하면 null
+
+		private State(boolean globalIndexEnabled) {
+			this.globalBoard = globalIndexEnabled ? new RankTree(entries::get) : null;
+		}
+
+		private void put(RankEntry entry) {
+			entries.put(entry.candidateId(), entry);
+			markChanged(entry);
+		}
+
+		private void put(Candidate candidate) {
+			RankEntry updated = entries.compute(candidate.getId(), (id, old) -> (old == null)
+				? new RankEntry(id, candidate.getWorldcupId(), candidate.getName(), candidate.getWinCount(), candidate.getTotalSelectionCount())
+				: new RankEntry(id, old.worldcupId(), candidate.getName(), old.winCount(), old.totalSelectionCount()));
+			markChanged(updated);
+		}
+
+		private void increment(Long candidateId, int wins, int selections) {
+			RankEntry updated = entries.computeIfPresent(candidateId, (id, old) -> new RankEntry(id, old.worldcupId(), old.name(),
+				old.winCount() + wins, old.totalSelectionCount() + selections));
+			if (updated != null) {
+				markChanged(updated);
+			}
+		}
+
+		private void remove(Long candidateId) {
+			RankEntry removed = entries.remove(candidateId);
+			if (removed != null) {
+				markChanged(removed);
+			}
+		}
+
+		private void removeWorldcup(Long worldcupId) {
+			RankTree board = worldcupBoards.get(worldcupId);
+			if (board == null) {
+				return;
+			}
+			board.page(0, Integer.MAX_VALUE).forEach(entry -> remove(entry.candidateId()));
+			worldcupBoards.remove(worldcupId, board);
+		}
+
+		private void markChanged(RankEntry entry) {
+			worldcupBoards.computeIfAbsent(entry.worldcupId(), id -> new RankTree(entries::get)).markChanged(entry.candidateId());
+			if (globalBoard != null) {
+				globalBoard.markChanged(entry.candidateId());
+			}
+		}
+	}
+
+	/**
+	 * 다시 적재하는 동안 이전 State에 반영된 선택 수와 후보 추가/삭제
+	 */
+	private static final class Carryover {
+
+		private final State previous;
+		private final Map<Long, int[]> deltas = new ConcurrentHashMap<>(); // [1등 횟수, 선택 횟수]
+		private final Queue<Consumer<State>> operations = new ConcurrentLinkedQueue<>();
+		private volatile State target;
+
+		private Carryover(State previous) {
+			this.previous = previous;
+		}
+
+		private void record(Long candidateId, boolean win) {
+			deltas.compute(candidateId, (id, delta) -> {
+				int[] updated = (delta == null) ? new int[2] : delta;
+				updated[0] += win ? 1 : 0;
+				updated[1]++;
+				return updated;
+			});
+			// 💡 옮겨 담기가 이미 시작되었다면 방금 남긴 기록은 직접 옮깁니다. (각 기록은 remove에 성공한 쪽이 한 번만 옮김)
+			State drained = target;
+			if (drained != null) {
+				moveTo(drained, candidateId);
+			}
+		}
+
+		private void record(Consumer<State> operation) {
+			operations.add(operation);
+			State drained = target;
+			if (drained != null) {
+				moveOperations(drained);
+			}
+		}
+
+		// 새로 추가된 후보의 선택 수를 옮길 수 있도록 추가/삭제를 먼저 적용합니다.
+		private void drainInto(State fresh) {
+			moveOperations(fresh);
+			target = fresh;
+			moveOperations(fresh);
+			for (Long candidateId : deltas.keySet()) {
+				moveTo(fresh, candidateId);
+			}
+		}
+
+		private void moveOperations(State fresh) {
+			Consumer<State> operation;
+			while ((operation = operations.poll()) != null) {
+				operation.accept(fresh);
+			}
+		}
+
+		private void moveTo(State fresh, Long candidateId) {
+			int[] delta = deltas.remove(candidateId);
+			if (delta != null) {
+				fresh.increment(candidateId, delta[0], delta[1]);
+			}
+		}
+	}
+
+	public record RankEntry(Long candidateId, Long worldcupId, String name, int winCount, int totalSelectionCount) {
+	}
+
+	/**
+	 * 서브트리 크기를 함께 저장하는 트립(treap)입니다. 순위(offset) 기반 탐색을 O(log n)에 처리합니다.
+	 * 💡 선택이 들어올 때마다 트리 잠금을 기다리지 않도록, 바뀐 후보 ID만 표시해 두고 잠금을 얻은 스레드가 한꺼번에 반영합니다.
+	 *    (잠금을 얻지 못한 스레드는 기다리지 않고 돌아가며, 조회는 잠금을 잡고 남은 변경을 모두 반영한 뒤 읽습니다)
+	 *    트리에 반영할 값은 항상 source(후보 항목 원본)에서 읽으므로 반영 순서가 뒤섞여도 마지막 값으로 수렴합니다.
+	 */
+	static final class RankTree {
+
+		private final Function<Long, RankEntry> source;
+		private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+		private final ReentrantLock lock = new ReentrantLock();
+		// 아래 필드는 lock을 잡은 상태에서만 접근합니다.
+		private final Map<Long, RankEntry> indexed = new HashMap<>(); // 후보 ID -> 트리에 들어 있는 항목
+		private Node root;
+
+		RankTree(Function<Long, RankEntry> source) {
+			this.source = source;
+		}
+
+		/**
+		 * 후보 항목이 추가/변경/삭제되었음을 알립니다. 다른 스레드가 반영 중이면 그 스레드나 다음 조회가 반영합니다.
+		 */
+		void markChanged(Long candidateId) {
+			changed.add(candidateId);
+			if (lock.tryLock()) {
+				try {
+					applyChanges();
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+
+		List<RankEntry> page(int offset, int limit) {
+			lock.lock();
+			try {
+				applyChanges();
+				List<RankEntry> result = new ArrayList<>(Math.min(limit, Math.max(size(root) - offset, 0)));
+				collect(root, offset, limit, result);
+				return result;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		int size() {
+			lock.lock();
+			try {
+				applyChanges();
+				return size(root);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void applyChanges() {
+			for (Iterator<Long> iterator = changed.iterator(); iterator.hasNext(); ) {
+				Long candidateId = iterator.next();
+				iterator.remove();
+				RankEntry current = source.apply(candidateId);
+				RankEntry old = (current == null) ? indexed.remove(candidateId) : indexed.put(candidateId, current);
+				if (old != null) {
+					root = remove(root, old);
+				}
+				if (current != null) {
+					root = insert(root, new Node(current));
+				}
+			}
+		}
+
+		private static void collect(Node node, int offset, int limit, List<RankEntry> out) {
+			if (node == null || out.size() >= limit) {
+				return;
+			}
+			int leftSize = size(node.left);
+			if (offset < leftSize) {
+				collect(node.left, offset, limit, out);
+			}
+			if (out.size() < limit && offset <= leftSize) {
+				out.add(node.entry);
+			}
+			collect(node.right, Math.max(offset - leftSize - 1, 0), limit, out);
+		}
+
+		private static Node insert(Node node, Node added) {
+			if (node == null) {
+				return added;
+			}
+			if (added.priority > node.priority) {
+				Node[] parts = split(node, added.entry);
+				added.left = parts[0];
+				added.right = parts[1];
+				return added.update();
+			}
+			if (RANK_ORDER.compare(added.entry, node.entry) < 0) {
+				node.left = insert(node.left, added);
+			} else {
+				node.right = insert(node.right, added);
+			}
+			return node.update();
+		}
+
+		private static Node remove(Node node, RankEntry entry) {
+			if (node == null) {
+				return null;
+			}
+			int cmp = RANK_ORDER.compare(entry, node.entry);
+			if (cmp == 0) {
+				return merge(node.left, node.right);
+			}
+			if (cmp < 0) {
+				node.left = remove(node.left, entry);
+			} else {
+				node.right = remove(node.right, entry);
+			}
+			return node.update();
+		}
+
+		// key보다 앞선 노드와 나머지로 나눕니다.
+		private static Node[] split(Node node, RankEntry key) {
+			if (node == null) {
+				return new Node[] {null, null};
+			}
+			if (RANK_ORDER.compare(node.entry, key) < 0) {
+				Node[] parts = split(node.right, key);
+				node.right = parts[0];
+				return new Node[] {node.update(), parts[1]};
+			}
+			Node[] parts = split(node.left, key);
+			node.left = parts[1];
+			return new Node[] {parts[0], node.update()};
+		}
+
+		private static Node merge(Node left, Node right) {
+			if (left == null) {
+				return right;
+			}
+			if (right == null) {
+				return left;
+			}
+			if (left.priority > right.priority) {
+				left.right = merge(left.right, right);
+				return left.update();
+			}
+			right.left = merge(left, right.left);
+			return right.update();
+		}
+
+		private static int size(Node node) {
+			return node == null ? 0 : node.size;
+		}
+
+		private static final class Node {
+			private final RankEntry entry;
+			private final int priority = ThreadLocalRandom.current().nextInt();
+			private int size = 1;
+			private Node left;
+			private Node right;
+
+			private Node(RankEntry entry) {
+				this.entry = entry;
+			}
+
+			private Node update() {
+				size = 1 + size(left) + size(right);
+				return this;
+			}
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.codit.worldcup.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.codit.worldcup.domain.entity.User;
+import com.codit.worldcup.domain.repository.UserRepository;
+
+/**
+ * 사용자 ID를 화면 표시용 닉네임으로 변환합니다.
+ * 💡 응답 하나에 필요한 사용자 ID를 모아 한 번의 IN 쿼리로 조회하고, 결과는 크기 제한이 있는 LRU 캐시에 보관합니다.
+ */
+@Component
+public class NicknameResolver {
+
+	// IN 절 하나에 담을 최대 사용자 ID 개수
+	private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
+	private final UserRepository userRepository;
+	private final Map<Long, String> cache;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public NicknameResolver(UserRepository userRepository, @Value("${worldcup.nickname-cache.max-size:10000}") int maxSize) {
+		this.userRepository = userRepository;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, String> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * 관리자 닉네임은 특수하게 표시하도록 프론트엔드와 약속되어 있습니다.
+	 */
+	public static String displayName(String nickname) {
+		return nickname.equals("admin") ? "관리자" : nickname;
+	}
+
+	/**
+	 * 주어진 사용자 ID들의 표시용 닉네임을 조회합니다. 존재하지 않는 사용자는 결과에 포함되지 않습니다.
+	 */
+	public Map<Long, String> resolve(Collection<Long> userIds) {
+		Map<Long, String> resolved = new HashMap<>();
+		List<Long> missing = new ArrayList<>();
+
+		lock.lock();
+		try {
+			for (Long userId : userIds) {
+				String nickname = cache.get(userId);
+				if (nickname != null) {
+					resolved.put(userId, nickname);
+				} else if (!resolved.containsKey(userId)) {
+					missing.add(userId);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (missing.isEmpty()) {
+			return resolved;
+		}
+
+		// 캐시에 없는 사용자만 한 번에 조회 (많으면 바인딩 변수 한도를 넘지 않도록 나눠서)
+		Map<Long, String> loaded = new HashMap<>();
+		for (int from = 0; from < missing.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			for (User user : userRepository.findAllById(missing.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, missing.size())))) {
+				loaded.put(user.getId(), displayName(user.getNickname()));
+			}
+		}
+
+		lock.lock();
+		try {
+			cache.putAll(loaded);
+		} finally {
+			lock.unlock();
+		}
+		resolved.putAll(loaded);
+		return resolved;
+	}
+
+	/**
+	 * 사용자 정보가 생성/변경되었을 때 캐시에서 제거합니다.
+	 */
+	public void invalidate(Long userId) {
+		lock.lock();
+		try {
+			cache.remove(userId);
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.codit.worldcup.application.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 어떤 월드컵/후보에서도 참조하지 않는 업로드 원본 이미지를 주기적으로 정리합니다.
+ * 💡 이미지 키가 내용 해시라서 같은 파일을 올린 여러 요청이 한 객체를 공유하므로, 업로드한 요청이 실패했다고 바로 지우면
+ *    동시에 같은 객체를 재사용한 다른 요청의 이미지가 사라질 수 있습니다. 그래서 실패 시에는 지우지 않고,
+ *    유예 시간(grace-hours)보다 오래되었고 DB에서 참조되지 않는 객체만 이곳에서 지웁니다.
+ *    S3Service는 유예 시간의 절반보다 오래된 객체를 재사용하지 않고 다시 PUT하므로, 재사용된 객체는 정리 대상이 되지 않습니다.
+ * 💡 파생 이미지(derived/)는 원본으로부터 다시 만들 수 있으므로 대상에서 제외합니다.
+ */
+@Component
+public class OrphanImageSweeper {
+
+	private static final Logger log = LoggerFactory.getLogger(OrphanImageSweeper.class);
+
+	private static final List<String> PREFIXES = List.of("worldcup/thumbnails/", "worldcup/candidates/");
+
+	private final S3Service s3Service;
+	private final CandidateRepository candidateRepository;
+	private final WorldcupRepository worldcupRepository;
+	private final long graceHours;
+
+	public OrphanImageSweeper(S3Service s3Service, CandidateRepository candidateRepository, WorldcupRepository worldcupRepository,
+		@Value("${worldcup.image-sweep.grace-hours:24}") long graceHours) {
+		this.s3Service = s3Service;
+		this.candidateRepository = candidateRepository;
+		this.worldcupRepository = worldcupRepository;
+		this.graceHours = graceHours;
+	}
+
+	@Scheduled(fixedDelayString = "${worldcup.image-sweep.interval-ms:21600000}",
+		initialDelayString = "${worldcup.image-sweep.interval-ms:21600000}")
+	public void sweep() {
+		Instant cutoff = Instant.now().minus(graceHours, ChronoUnit.HOURS);
+		AtomicLong deleted = new AtomicLong();
+		try {
+			for (String prefix : PREFIXES) {
+				s3Service.forEachObjectBatch(prefix, cutoff, keys -> deleted.addAndGet(deleteUnreferenced(keys, cutoff)));
+			}
+		} catch (RuntimeException e) {
+			log.warn("고아 이미지 정리에 실패했습니다: {}", e.getMessage());
+		}
+		if (deleted.get() > 0) {
+			log.info("참조되지 않는 이미지 {}건을 정리했습니다.", deleted.get());
+		}
+	}
+
+	private int deleteUnreferenced(List<String> keys, Instant cutoff) {
+		List<String> urls = keys.stream().map(s3Service::urlOf).toList();
+		Set<String> referenced = new HashSet<>(candidateRepository.findReferencedImageUrls(urls));
+		referenced.addAll(worldcupRepository.findReferencedThumbnailUrls(urls));
+
+		List<String> orphans = new ArrayList<>();
+		for (int i = 0; i < keys.size(); i++) {
+			if (referenced.contains(urls.get(i))) {
+				continue;
+			}
+			// 💡 목록을 읽은 뒤 다른 요청이 같은 내용을 다시 PUT했다면 수정 시각이 갱신되어 있으므로 지우지 않습니다.
+			Instant lastModified = s3Service.lastModified(keys.get(i));
+			if (lastModified != null && lastModified.isBefore(cutoff)) {
+				orphans.add(urls.get(i));
+			}
+		}
+		s3Service.deleteFiles(orphans);
+		return orphans.size();
+	}
+}
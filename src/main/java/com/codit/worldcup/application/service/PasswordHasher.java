@@ -0,0 +1,218 @@
+package com.codit.worldcup.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * BCrypt 해시/검증을 요청 스레드가 아닌 크기 제한이 있는 전용 스레드 풀에서 실행합니다.
+ * 💡 로그인이 몰려도 해시 작업이 CPU를 모두 차지해 게임 API가 느려지지 않도록, 대기열이 가득 차면 즉시 429로 거절합니다.
+ *    한 번 검증에 성공한 (저장된 해시, 입력 비밀번호) 조합은 서버 전용 키로 만든 HMAC 값만 잠시 기억해 두고,
+ *    같은 조합이 다시 들어오면 BCrypt를 건너뜁니다. (비밀번호 원문은 보관하지 않습니다)
+ */
+@Component
+public class PasswordHasher {
+
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolExecutor executor;
+	private final long timeoutMillis;
+	private final long cacheTtlMillis;
+	private final Map<String, Long> verifiedCache; // HMAC 값 → 만료 시각(ms)
+	private final ReentrantLock cacheLock = new ReentrantLock();
+	private final SecretKeySpec cacheKey;
+
+	private final Timer matchesTimer;
+	private final Timer encodeTimer;
+	private final Counter rejected;
+	private final Counter cacheHits;
+	private final Counter cacheMisses;
+
+	public PasswordHasher(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+		@Value("${worldcup.login.hash-workers:2}") int workers,
+		@Value("${worldcup.login.hash-queue-capacity:50}") int queueCapacity,
+		@Value("${worldcup.login.hash-timeout-ms:5000}") long timeoutMillis,
+		@Value("${worldcup.login.credential-cache-ttl-seconds:300}") long cacheTtlSeconds,
+		@Value("${worldcup.login.credential-cache-max-size:10000}") int cacheMaxSize) {
+		this.passwordEncoder = passwordEncoder;
+		this.timeoutMillis = timeoutMillis;
+		this.cacheTtlMillis = TimeUnit.SECONDS.toMillis(cacheTtlSeconds);
+
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "password-hash-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		this.verifiedCache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > cacheMaxSize;
+			}
+		};
+		// 서버 기동마다 새로 만드는 키이므로 캐시 값이 밖으로 새어도 비밀번호 추측에 쓸 수 없습니다.
+		byte[] keyBytes = new byte[32];
+		new SecureRandom().nextBytes(keyBytes);
+		this.cacheKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+
+		this.matchesTimer = Timer.builder("worldcup.password.hash")
+			.description("비밀번호 해시 작업 시간")
+			.tag("operation", "matches")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.encodeTimer = Timer.builder("worldcup.password.hash")
+			.description("비밀번호 해시 작업 시간")
+			.tag("operation", "encode")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.rejected = Counter.builder("worldcup.password.hash.rejected")
+			.description("대기열이 가득 차거나 시간 초과로 거절된 해시 요청 수")
+			.register(meterRegistry);
+		this.cacheHits = Counter.builder("worldcup.password.cache")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.cacheMisses = Counter.builder("worldcup.password.cache")
+			.tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * 입력 비밀번호가 저장된 해시와 일치하는지 확인합니다.
+	 */
+	public boolean matches(String rawPassword, String encodedPassword) {
+		if (rawPassword == null || encodedPassword == null) {
+			return false;
+		}
+		String cacheKey = digest(rawPassword, encodedPassword);
+		if (isVerified(cacheKey)) {
+			cacheHits.increment();
+			return true;
+		}
+		cacheMisses.increment();
+
+		boolean matched = run(() -> timed(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword)));
+		if (matched) {
+			rememberVerified(cacheKey);
+		}
+		return matched;
+	}
+
+	/**
+	 * 새 비밀번호를 해시합니다.
+	 */
+	public String encode(String rawPassword) {
+		return run(() -> timed(encodeTimer, () -> passwordEncoder.encode(rawPassword)));
+	}
+
+	private <T> T run(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new TooManyLoginAttemptsException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+		}
+
+		try {
+			return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			rejected.increment();
+			throw new TooManyLoginAttemptsException("로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("비밀번호 확인 중 중단되었습니다.");
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	// 대기열에서 기다린 시간은 빼고 해시 작업 자체의 시간만 기록합니다.
+	private static <T> T timed(Timer timer, Supplier<T> work) {
+		long start = System.nanoTime();
+		try {
+			return work.get();
+		} finally {
+			timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private boolean isVerified(String key) {
+		cacheLock.lock();
+		try {
+			Long expiresAt = verifiedCache.get(key);
+			if (expiresAt == null) {
+				return false;
+			}
+			if (expiresAt < System.currentTimeMillis()) {
+				verifiedCache.remove(key);
+				return false;
+			}
+			return true;
+		} finally {
+			cacheLock.unlock();
+		}
+	}
+
+	private void rememberVerified(String key) {
+		cacheLock.lock();
+		try {
+			verifiedCache.put(key, System.currentTimeMillis() + cacheTtlMillis);
+		} finally {
+			cacheLock.unlock();
+		}
+	}
+
+	// 💡 저장된 해시까지 포함하므로 비밀번호가 바뀌면 이전 캐시 항목은 자연히 쓰이지 않습니다.
+	private String digest(String rawPassword, String encodedPassword) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(cacheKey);
+			mac.update(encodedPassword.getBytes(StandardCharsets.UTF_8));
+			mac.update((byte) 0);
+			return HexFormat.of().formatHex(mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8)));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
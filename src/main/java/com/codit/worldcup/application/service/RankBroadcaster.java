@@ -0,0 +1,331 @@
+package com.codit.worldcup.application.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * 월드컵 랭킹 변화를 Server-Sent Events로 구독자에게 밀어 줍니다.
+ * 💡 선택이 기록되면 해당 월드컵에 "변경됨" 표시만 하고, interval-ms마다 한 번 상위 top-size개를 계산해
+ *    직전 프레임과 달라진 행만 담은 delta 프레임을 한 번 직렬화한 뒤 모든 구독자에게 같은 바이트를 보냅니다.
+ *    구독자가 몇 명이든 월드컵당 주기마다 계산/직렬화는 한 번입니다.
+ *    전송은 구독자마다 크기가 제한된 큐를 거쳐 가상 스레드에서 이루어지며, 큐가 넘치는 느린 구독자는 연결을 끊습니다.
+ */
+@Component
+public class RankBroadcaster {
+
+	private static final Logger log = LoggerFactory.getLogger(RankBroadcaster.class);
+
+	private static final Long ALL = 0L; // 전체 통합 랭킹 채널 (월드컵 ID는 1부터 시작)
+
+	private final Leaderboard leaderboard;
+	private final ObjectMapper objectMapper;
+	private final int topSize;
+	private final int bufferSize;
+	private final long timeoutMillis;
+	private final long heartbeatNanos;
+	private final int maxSubscribers;
+	private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+	private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+	private final ExecutorService senders = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("rank-stream-", 0).factory());
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final Counter dropped;
+
+	public RankBroadcaster(Leaderboard leaderboard, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+		@Value("${worldcup.rank-stream.top-size:50}") int topSize,
+		@Value("${worldcup.rank-stream.buffer-size:16}") int bufferSize,
+		@Value("${worldcup.rank-stream.timeout-ms:1800000}") long timeoutMillis,
+		@Value("${worldcup.rank-stream.heartbeat-ms:15000}") long heartbeatMillis,
+		@Value("${worldcup.rank-stream.max-subscribers:10000}") int maxSubscribers) {
+		this.leaderboard = leaderboard;
+		this.objectMapper = objectMapper;
+		this.topSize = topSize;
+		this.bufferSize = bufferSize;
+		this.timeoutMillis = timeoutMillis;
+		this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatMillis);
+		this.maxSubscribers = maxSubscribers;
+
+		Gauge.builder("worldcup.rank-stream.subscribers", subscriberCount, AtomicInteger::get)
+			.description("랭킹 SSE 구독자 수")
+			.register(meterRegistry);
+		this.dropped = Counter.builder("worldcup.rank-stream.dropped")
+			.description("전송 큐가 넘쳐 연결을 끊은 느린 구독자 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 랭킹을 구독합니다. 첫 프레임으로 현재 상위 랭킹 전체(snapshot)를 보내고, 이후에는 바뀐 행만(delta) 보냅니다.
+	 * @param worldcupId 월드컵 ID (null이면 전체 통합 랭킹)
+	 */
+	public SseEmitter subscribe(Long worldcupId) {
+		// 💡 없는 ID로 채널이 만들어지지 않도록 메모리 랭킹으로 확인합니다. (삭제된 월드컵은 랭킹에서 빠져 있음)
+		if (worldcupId != null && leaderboard.page(worldcupId, 0, 1).isEmpty()) {
+			throw new WorldcupNotFoundException("존재하지 않는 월드컵 ID입니다: " + worldcupId);
+		}
+		// 💡 구독 하나가 연결과 전송 큐를 오래 붙잡으므로 전체 구독자 수를 제한합니다.
+		if (subscriberCount.incrementAndGet() > maxSubscribers) {
+			subscriberCount.decrementAndGet();
+			throw new TooManyRankSubscribersException("실시간 랭킹 구독자가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+		}
+		Long key = (worldcupId == null) ? ALL : worldcupId;
+		SseEmitter emitter = newEmitter();
+		Subscriber subscriber = new Subscriber(emitter, bufferSize);
+
+		Channel channel;
+		while (true) {
+			channel = channels.computeIfAbsent(key, Channel::new);
+			channel.lock.lock();
+			if (!channel.closed) {
+				break;
+			}
+			// 마지막 구독자가 떠나며 닫힌 채널이면 맵에서 빠진 뒤이므로 다시 만듭니다.
+			channel.lock.unlock();
+		}
+		try {
+			if (channel.published == null) {
+				channel.published = top(key);
+			}
+			subscriber.offer(frame("snapshot", channel.version, key, rows(channel.published), List.of()));
+			channel.subscribers.add(subscriber);
+		} catch (RuntimeException e) {
+			subscriberCount.decrementAndGet();
+			throw e;
+		} finally {
+			channel.lock.unlock();
+		}
+
+		Channel subscribed = channel;
+		Runnable leave = () -> leave(subscribed, subscriber);
+		emitter.onCompletion(leave);
+		emitter.onTimeout(leave);
+		emitter.onError(error -> leave.run());
+		drain(subscriber);
+		return emitter;
+	}
+
+	// 테스트에서 보낸 프레임을 받아 볼 수 있도록 분리
+	SseEmitter newEmitter() {
+		return new SseEmitter(timeoutMillis);
+	}
+
+	/**
+	 * 선택이 기록되었음을 알립니다. 구독자가 없는 월드컵이면 아무 일도 하지 않습니다.
+	 */
+	public void markChanged(Long worldcupId) {
+		if (channels.containsKey(worldcupId)) {
+			dirty.add(worldcupId);
+		}
+		if (channels.containsKey(ALL)) {
+			dirty.add(ALL);
+		}
+	}
+
+	/**
+	 * 변경된 채널마다 한 번씩 랭킹을 계산해 delta 프레임을 보냅니다.
+	 */
+	@Scheduled(fixedDelayString = "${worldcup.rank-stream.interval-ms:1000}")
+	public void tick() {
+		for (Long key : new ArrayList<>(dirty)) {
+			dirty.remove(key);
+			Channel channel = channels.get(key);
+			if (channel != null) {
+				publish(channel);
+			}
+		}
+		heartbeat();
+	}
+
+	private void publish(Channel channel) {
+		channel.lock.lock();
+		try {
+			if (channel.closed || channel.subscribers.isEmpty()) {
+				return;
+			}
+			Map<Long, RankedRow> previous = channel.published;
+			Map<Long, RankedRow> current = top(channel.key);
+
+			List<RankedRow> changed = new ArrayList<>();
+			current.forEach((candidateId, row) -> {
+				if (!row.equals(previous.get(candidateId))) {
+					changed.add(row);
+				}
+			});
+			List<Long> removed = previous.keySet().stream()
+				.filter(candidateId -> !current.containsKey(candidateId))
+				.toList();
+			if (changed.isEmpty() && removed.isEmpty()) {
+				return;
+			}
+
+			channel.version++;
+			channel.published = current;
+			Set<ResponseBodyEmitter.DataWithMediaType> frame = frame("delta", channel.version, channel.key, changed, removed);
+			channel.subscribers.forEach(subscriber -> {
+				subscriber.offer(frame);
+				drain(subscriber);
+			});
+		} catch (RuntimeException e) {
+			log.warn("랭킹 스트림 프레임 생성에 실패했습니다 (채널 {}): {}", channel.key, e.getMessage());
+		} finally {
+			channel.lock.unlock();
+		}
+	}
+
+	// 한동안 프레임이 없던 구독자에게 주석 한 줄을 보내 프록시 타임아웃을 막고 끊긴 연결을 찾아냅니다.
+	private void heartbeat() {
+		long now = System.nanoTime();
+		channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> {
+			if (now - subscriber.lastOfferedAt > heartbeatNanos) {
+				subscriber.offer(SseEmitter.event().comment("keep-alive").build());
+				drain(subscriber);
+			}
+		}));
+	}
+
+	private Map<Long, RankedRow> top(Long key) {
+		List<Leaderboard.RankEntry> entries = leaderboard.page(ALL.equals(key) ? null : key, 0, topSize);
+		Map<Long, RankedRow> rows = new HashMap<>();
+		for (int i = 0; i < entries.size(); i++) {
+			Leaderboard.RankEntry entry = entries.get(i);
+			rows.put(entry.candidateId(), new RankedRow(i + 1, entry.candidateId(), entry.name(), entry.winCount(), entry.totalSelectionCount()));
+		}
+		return rows;
+	}
+
+	private static List<RankedRow> rows(Map<Long, RankedRow> published) {
+		List<RankedRow> rows = new ArrayList<>(published.values());
+		rows.sort((a, b) -> Integer.compare(a.rank(), b.rank()));
+		return rows;
+	}
+
+	private Set<ResponseBodyEmitter.DataWithMediaType> frame(String type, long version, Long key, List<RankedRow> rows, List<Long> removed) {
+		String worldcupId = ALL.equals(key) ? "all" : String.valueOf(key);
+		String json = objectMapper.writeValueAsString(new Frame(worldcupId, version, rows, removed));
+		return SseEmitter.event().name(type).id(String.valueOf(version)).data(json).build();
+	}
+
+	// 💡 구독자별로 전송 작업이 최대 하나만 돌도록 합니다. (순서 보장, 느린 연결이 다른 구독자를 막지 않음)
+	private void drain(Subscriber subscriber) {
+		if (!subscriber.draining.compareAndSet(false, true)) {
+			return;
+		}
+		senders.execute(() -> {
+			try {
+				Set<ResponseBodyEmitter.DataWithMediaType> frame;
+				while ((frame = subscriber.queue.poll()) != null) {
+					subscriber.emitter.send(frame);
+				}
+			} catch (IOException | IllegalStateException e) {
+				subscriber.emitter.completeWithError(e);
+				return;
+			} finally {
+				subscriber.draining.set(false);
+			}
+			// 전송을 마치는 사이에 새 프레임이 들어왔으면 다시 처리
+			if (!subscriber.queue.isEmpty()) {
+				drain(subscriber);
+			}
+		});
+	}
+
+	private void leave(Channel channel, Subscriber subscriber) {
+		channel.lock.lock();
+		try {
+			if (!channel.subscribers.remove(subscriber)) {
+				return;
+			}
+			subscriberCount.decrementAndGet();
+			if (channel.subscribers.isEmpty()) {
+				channel.closed = true;
+				channels.remove(channel.key, channel);
+			}
+		} finally {
+			channel.lock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+		senders.shutdownNow();
+	}
+
+	/**
+	 * 랭킹 한 행 (rank는 1부터 시작)
+	 */
+	public record RankedRow(int rank, Long candidateId, String name, int winCount, int totalSelectionCount) {
+	}
+
+	/**
+	 * SSE data에 담기는 프레임. snapshot이면 rows가 전체 상위 랭킹, delta면 바뀐 행과 상위권에서 빠진 후보 ID입니다.
+	 */
+	public record Frame(String worldcupId, long version, List<RankedRow> rows, List<Long> removed) {
+	}
+
+	private static final class Channel {
+		private final Long key;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+		private Map<Long, RankedRow> published; // 마지막으로 보낸 상위 랭킹 (lock으로 보호)
+		private long version;
+		private boolean closed;
+
+		private Channel(Long key) {
+			this.key = key;
+		}
+	}
+
+	private final class Subscriber {
+		private final SseEmitter emitter;
+		private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean overflowed = new AtomicBoolean();
+		private volatile long lastOfferedAt = System.nanoTime();
+
+		private Subscriber(SseEmitter emitter, int bufferSize) {
+			this.emitter = emitter;
+			this.queue = new ArrayBlockingQueue<>(bufferSize);
+		}
+
+		// 큐가 가득 찼다면 따라오지 못하는 구독자이므로 연결을 끊습니다. (재연결하면 snapshot부터 다시 받음)
+		// 💡 complete()는 진행 중인 send()가 끝나기를 기다릴 수 있으므로 전송용 가상 스레드에서 호출합니다.
+		private void offer(Set<ResponseBodyEmitter.DataWithMediaType> frame) {
+			if (overflowed.get()) {
+				return;
+			}
+			lastOfferedAt = System.nanoTime();
+			if (!queue.offer(frame) && overflowed.compareAndSet(false, true)) {
+				dropped.increment();
+				queue.clear();
+				senders.execute(emitter::complete);
+			}
+		}
+	}
+}
@@ -0,0 +1,333 @@
+package com.codit.worldcup.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 선택 결과(user_result)와 후보 랭킹을 NDJSON/CSV로 내보냅니다. (Admin 전용)
+ * 💡 엔티티나 List로 모으지 않고 읽기 전용 트랜잭션 안에서 전진 전용 커서로 fetch size만큼씩 읽어
+ *    한 행씩 응답 스트림에 씁니다. 힙 사용량은 행 수와 무관하게 fetch size + 출력 버퍼 크기로 고정되고,
+ *    클라이언트가 느리면 소켓 쓰기가 막히면서 DB에서 다음 묶음을 읽는 것도 함께 늦춰집니다.
+ *    (MySQL은 useCursorFetch=true일 때만 fetch size 단위의 서버 커서를 사용합니다)
+ * 💡 내보내기 하나가 끝날 때까지 DB 커넥션 하나를 붙잡으므로 동시에 진행할 수 있는 수를 제한합니다.
+ */
+@Component
+public class ResultExporter {
+
+	private static final Logger log = LoggerFactory.getLogger(ResultExporter.class);
+
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+
+	private static final List<Column> RESULT_COLUMNS = List.of(
+		new Column("id", ColumnType.NUMBER), new Column("userId", ColumnType.NUMBER),
+		new Column("worldcupId", ColumnType.NUMBER), new Column("winnerId", ColumnType.NUMBER),
+		new Column("createdAt", ColumnType.TIMESTAMP));
+	// 💡 삭제 표시된 월드컵은 WorldcupPurger가 정리하기 전이라도 내보내지 않습니다.
+	private static final String RESULT_SQL = "SELECT r.id, r.user_id, r.worldcup_id, r.winner_id, r.created_at FROM user_result r"
+		+ " JOIN worldcup w ON w.id = r.worldcup_id WHERE w.deleted = false";
+
+	// 💡 랭킹 정렬 기준은 Leaderboard와 같습니다. (카운터는 VoteAggregator의 flush 주기만큼 늦을 수 있음)
+	private static final List<Column> RANK_COLUMNS = List.of(
+		new Column("id", ColumnType.NUMBER), new Column("worldcupId", ColumnType.NUMBER),
+		new Column("name", ColumnType.TEXT), new Column("winCount", ColumnType.NUMBER),
+		new Column("totalSelectionCount", ColumnType.NUMBER));
+	private static final String RANK_SQL = "SELECT c.id, c.worldcup_id, c.name, c.win_count, c.total_selection_count FROM candidate c"
+		+ " JOIN worldcup w ON w.id = c.worldcup_id WHERE w.deleted = false";
+	private static final String RANK_ORDER = " ORDER BY c.worldcup_id, c.win_count DESC, c.total_selection_count DESC, c.name, c.id";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Semaphore permits;
+	private final int fetchSize;
+
+	public ResultExporter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+		@Value("${worldcup.export.fetch-size:1000}") int fetchSize,
+		@Value("${worldcup.export.max-concurrent:2}") int maxConcurrent) {
+		this.jdbcTemplate = jdbcTemplate;
+		// 💡 읽기 전용 트랜잭션이므로 복제 DB가 설정되어 있으면 그쪽에서 읽습니다.
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.fetchSize = fetchSize;
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	/**
+	 * 내보내기 형식
+	 */
+	public enum Format {
+		NDJSON("application/x-ndjson", "ndjson"),
+		CSV("text/csv;charset=UTF-8", "csv");
+
+		private final String mediaType;
+		private final String extension;
+
+		Format(String mediaType, String extension) {
+			this.mediaType = mediaType;
+			this.extension = extension;
+		}
+
+		public String mediaType() {
+			return mediaType;
+		}
+
+		public String extension() {
+			return extension;
+		}
+
+		public static Format from(String value) {
+			for (Format format : values()) {
+				if (format.extension.equalsIgnoreCase(value)) {
+					return format;
+				}
+			}
+			throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+		}
+	}
+
+	/**
+	 * 선택 결과를 내보냅니다. worldcupId가 null이면 모든 월드컵의 결과입니다.
+	 */
+	public Export exportResults(Long worldcupId, Format format) {
+		String sql = worldcupId == null ? RESULT_SQL : RESULT_SQL + " AND r.worldcup_id = ?";
+		return export("user_result", sql, worldcupId, RESULT_COLUMNS, format);
+	}
+
+	/**
+	 * 후보 랭킹을 내보냅니다. worldcupId가 null이면 모든 월드컵의 후보를 월드컵별 순위대로 내보냅니다.
+	 */
+	public Export exportRanks(Long worldcupId, Format format) {
+		String sql = (worldcupId == null ? RANK_SQL : RANK_SQL + " AND c.worldcup_id = ?") + RANK_ORDER;
+		return export("candidate_rank", sql, worldcupId, RANK_COLUMNS, format);
+	}
+
+	// 💡 허용 수를 넘으면 응답을 시작하기 전에 429로 거절합니다.
+	private Export export(String name, String sql, Long worldcupId, List<Column> columns, Format format) {
+		if (!permits.tryAcquire()) {
+			throw new TooManyExportsException("진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해 주세요.");
+		}
+		return new Export(name, sql, worldcupId, columns, format);
+	}
+
+	/**
+	 * 내보내기 하나의 응답 본문입니다.
+	 * 💡 허가는 스트리밍이 끝날 때 반납하지만, 비동기 요청이 시간 초과/오류로 끝나면 본문이 실행되지 않을 수 있으므로
+	 *    요청이 끝날 때도 release()를 호출해야 합니다. (AdminController) 반납은 한 번만 일어납니다.
+	 */
+	public final class Export implements StreamingResponseBody {
+
+		private final String name;
+		private final String sql;
+		private final Long worldcupId;
+		private final List<Column> columns;
+		private final Format format;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Export(String name, String sql, Long worldcupId, List<Column> columns, Format format) {
+			this.name = name;
+			this.sql = sql;
+			this.worldcupId = worldcupId;
+			this.columns = columns;
+			this.format = format;
+		}
+
+		public Format format() {
+			return format;
+		}
+
+		@Override
+		public void writeTo(OutputStream out) throws IOException {
+			if (released.get()) {
+				return; // 이미 끝난 요청입니다.
+			}
+			try {
+				Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), OUTPUT_BUFFER_SIZE);
+				RowWriter rowWriter = new RowWriter(writer, columns, format);
+				rowWriter.writeHeader(); // 💡 행이 하나도 없어도 CSV 컬럼 이름은 내려갑니다.
+				long startNanos = System.nanoTime();
+				readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+					PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+						ResultSet.CONCUR_READ_ONLY);
+					statement.setFetchSize(fetchSize);
+					if (worldcupId != null) {
+						statement.setLong(1, worldcupId);
+					}
+					return statement;
+				}, rowWriter));
+				writer.flush();
+				log.info("Exported {} {} rows as {} in {} ms", rowWriter.rows, name, format,
+					(System.nanoTime() - startNanos) / 1_000_000);
+			} catch (UncheckedIOException e) {
+				// 💡 클라이언트가 연결을 끊으면 쓰기 예외로 커서를 닫고 트랜잭션을 끝냅니다.
+				throw e.getCause();
+			} finally {
+				release();
+			}
+		}
+
+		public void release() {
+			if (released.compareAndSet(false, true)) {
+				permits.release();
+			}
+		}
+	}
+
+	private enum ColumnType {
+		NUMBER, TEXT, TIMESTAMP
+	}
+
+	private record Column(String name, ColumnType type) {
+	}
+
+	/**
+	 * 커서에서 읽은 행을 바로 출력 버퍼에 씁니다. (CSV 헤더는 커서를 열기 전에)
+	 */
+	private static final class RowWriter implements RowCallbackHandler {
+
+		private final Writer writer;
+		private final List<Column> columns;
+		private final Format format;
+		private long rows;
+
+		RowWriter(Writer writer, List<Column> columns, Format format) {
+			this.writer = writer;
+			this.columns = columns;
+			this.format = format;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			try {
+				if (format == Format.CSV) {
+					writeCsvRow(rs);
+				} else {
+					writeJsonRow(rs);
+				}
+				rows++;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		void writeHeader() throws IOException {
+			if (format != Format.CSV) {
+				return;
+			}
+			for (int i = 0; i < columns.size(); i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writer.write(columns.get(i).name());
+			}
+			writer.write('\n');
+		}
+
+		private void writeCsvRow(ResultSet rs) throws SQLException, IOException {
+			for (int i = 0; i < columns.size(); i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				String value = valueOf(rs, i + 1, columns.get(i).type());
+				if (value != null) {
+					writeCsvField(value);
+				}
+			}
+			writer.write('\n');
+		}
+
+		private void writeJsonRow(ResultSet rs) throws SQLException, IOException {
+			writer.write('{');
+			for (int i = 0; i < columns.size(); i++) {
+				Column column = columns.get(i);
+				if (i > 0) {
+					writer.write(',');
+				}
+				writer.write('"');
+				writer.write(column.name());
+				writer.write("\":");
+				String value = valueOf(rs, i + 1, column.type());
+				if (value == null) {
+					writer.write("null");
+				} else if (column.type() == ColumnType.NUMBER) {
+					writer.write(value);
+				} else {
+					writeJsonString(value);
+				}
+			}
+			writer.write("}\n");
+		}
+
+		private static String valueOf(ResultSet rs, int index, ColumnType type) throws SQLException {
+			return switch (type) {
+				case NUMBER -> {
+					long value = rs.getLong(index);
+					yield rs.wasNull() ? null : Long.toString(value);
+				}
+				case TEXT -> rs.getString(index);
+				case TIMESTAMP -> {
+					Timestamp value = rs.getTimestamp(index);
+					yield value == null ? null : value.toLocalDateTime().toString();
+				}
+			};
+		}
+
+		// RFC 4180: 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 안의 따옴표는 두 번 씁니다.
+		private void writeCsvField(String value) throws IOException {
+			boolean quote = false;
+			for (int i = 0; i < value.length() && !quote; i++) {
+				char c = value.charAt(i);
+				quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+			}
+			if (!quote) {
+				writer.write(value);
+				return;
+			}
+			writer.write('"');
+			writer.write(value.replace("\"", "\"\""));
+			writer.write('"');
+		}
+
+		private void writeJsonString(String value) throws IOException {
+			writer.write('"');
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				switch (c) {
+					case '"' -> writer.write("\\\"");
+					case '\\' -> writer.write("\\\\");
+					case '\n' -> writer.write("\\n");
+					case '\r' -> writer.write("\\r");
+					case '\t' -> writer.write("\\t");
+					default -> {
+						if (c < 0x20) {
+							writer.write(String.format("\\u%04x", (int) c));
+						} else {
+							writer.write(c);
+						}
+					}
+				}
+			}
+			writer.write('"');
+		}
+	}
+}
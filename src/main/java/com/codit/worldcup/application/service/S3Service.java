@@ -1,20 +1,62 @@
 package com.codit.worldcup.application.service;
 
 import java.io.IOException;
-import java.util.UUID;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.annotation.PreDestroy;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
 @Service
 public class S3Service {
 
+	private static final Logger log = LoggerFactory.getLogger(S3Service.class);
+
+	// S3 DeleteObjects 요청 한 번에 담을 수 있는 최대 키 개수
+	private static final int MAX_DELETE_KEYS = 1000;
+
 	private final S3Client s3Client;
+	private final ExecutorService uploadExecutor;
+
+	// 💡 이미 버킷에 있다고 확인된 객체 키 (내용 해시 기반)와 그 객체의 마지막 수정 시각(ms). PUT 전에 먼저 확인합니다.
+	private final Map<String, Long> knownKeys;
+	// 💡 이보다 오래된 객체는 재사용하지 않고 다시 PUT해 수정 시각을 갱신합니다. (고아 정리 유예 시간의 절반)
+	private final long reuseMaxAgeMillis;
+	private final ReentrantLock knownKeysLock = new ReentrantLock();
 
 	@Value("${aws.s3.bucket-name}")
 	private String bucketName;
@@ -23,23 +65,96 @@ public class S3Service {
 	private String region;
 
 	// 생성자 주입
-	public S3Service(S3Client s3Client) {
+	public S3Service(S3Client s3Client, @Value("${worldcup.upload.parallelism:8}") int uploadParallelism,
+		@Value("${worldcup.upload.known-keys-max-size:100000}") int knownKeysMaxSize,
+		@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+		@Value("${worldcup.image-sweep.grace-hours:24}") long sweepGraceHours) {
 		this.s3Client = s3Client;
+		this.reuseMaxAgeMillis = TimeUnit.HOURS.toMillis(sweepGraceHours) / 2;
+		this.knownKeys = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > knownKeysMaxSize;
+			}
+		};
+		// 💡 동시 업로드 수를 제한하는 전용 스레드 풀
+		//    가상 스레드 모드에서는 S3 응답을 기다리는 동안 캐리어 스레드를 반납하도록 가상 스레드로 실행합니다. (동시 업로드 수 제한은 동일)
+		ThreadFactory threadFactory;
+		if (virtualThreads) {
+			threadFactory = Thread.ofVirtual().name("s3-upload-", 1).factory();
+		} else {
+			AtomicInteger threadIndex = new AtomicInteger();
+			threadFactory = runnable -> {
+				Thread thread = new Thread(runnable, "s3-upload-" + threadIndex.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+		}
+		this.uploadExecutor = Executors.newFixedThreadPool(uploadParallelism, threadFactory);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		uploadExecutor.shutdown();
+	}
+
+	/**
+	 * 업로드할 파일과 저장할 디렉토리
+	 */
+	public record Upload(MultipartFile file, String directory) {
+	}
+
+	/**
+	 * 업로드 결과
+	 * @param url 공개 접근 URL
+	 * @param created 이번 호출에서 PUT 되었는지 여부 (false면 같은 내용의 기존 객체를 재사용)
+	 */
+	public record StoredFile(String url, boolean created) {
+	}
+
+	/**
+	 * 여러 파일을 병렬로 업로드하고, 요청 순서와 같은 순서로 결과 목록을 반환합니다.
+	 * 💡 하나라도 실패하면 예외를 던집니다. 이미 올라간 파일은 지우지 않습니다.
+	 *    키가 내용 해시라서 같은 파일을 동시에 올린 다른 요청이 이 객체를 참조할 수 있기 때문이며,
+	 *    어디에서도 참조되지 않는 객체는 OrphanImageSweeper가 DB를 확인한 뒤 정리합니다.
+	 */
+	public List<StoredFile> uploadFiles(List<Upload> uploads) {
+		List<CompletableFuture<StoredFile>> futures = uploads.stream()
+			.map(upload -> CompletableFuture.supplyAsync(() -> uploadFile(upload.file(), upload.directory()), uploadExecutor))
+			.toList();
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+
+		return futures.stream().map(CompletableFuture::join).toList();
 	}
 
 	/**
 	 * S3에 파일을 업로드하고, 공개 접근 URL을 반환합니다.
+	 * 💡 객체 키는 파일 내용의 SHA-256 해시로 정해지므로, 같은 내용이 이미 있으면 전송 없이 기존 URL을 반환합니다.
 	 * @param multipartFile 업로드할 파일
 	 * @param directory 업로드할 S3 버킷 내부 디렉토리 (예: "worldcup/candidates/")
-	 * @return S3 파일 URL
+	 * @return 업로드 결과 (S3 파일 URL 포함)
 	 */
-	public String uploadFile(MultipartFile multipartFile, String directory) {
-		// 1. 파일 이름 생성 (UUID를 사용하여 중복 방지)
+	public StoredFile uploadFile(MultipartFile multipartFile, String directory) {
 		String originalFilename = multipartFile.getOriginalFilename();
-		String fileExtension = originalFilename.substring(originalFilename.lastIndexOf("."));
-		String uniqueFileName = directory + UUID.randomUUID().toString() + fileExtension;
+		String fileExtension = originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase();
 
 		try {
+			// 1. 파일 이름 생성 (내용 해시 사용: 같은 내용 = 같은 키)
+			String uniqueFileName = directory + contentHash(multipartFile) + fileExtension;
+
+			// 💡 이미 올라간 내용이면 PUT 하지 않습니다.
+			if (reusable(uniqueFileName)) {
+				return new StoredFile(toUrl(uniqueFileName), false);
+			}
+
 			// 2. S3 업로드 요청 생성
 			PutObjectRequest putObjectRequest = PutObjectRequest.builder()
 				.bucket(bucketName)
@@ -52,13 +167,183 @@ public class S3Service {
 			s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
 				multipartFile.getInputStream(), multipartFile.getSize()));
 
+			rememberKey(uniqueFileName, System.currentTimeMillis());
+
 			// 4. 공개 접근 가능한 URL 생성
 			// 💡 S3 버킷 설정에서 Public Read Access가 활성화되어 있어야 합니다.
-			// URL 형식: https://[버킷 이름].s3.[리전].amazonaws.com/[객체 키]
-			return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, uniqueFileName);
+			return new StoredFile(toUrl(uniqueFileName), true);
 
 		} catch (IOException e) {
 			throw new RuntimeException("S3 파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 메모리에 있는 바이트를 지정한 키로 업로드하고 URL을 반환합니다. (파생 이미지 저장용)
+	 */
+	public String putBytes(String key, byte[] bytes, String contentType) {
+		PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+			.bucket(bucketName)
+			.key(key)
+			.contentType(contentType)
+			.contentLength((long) bytes.length)
+			.build();
+		s3Client.putObject(putObjectRequest, RequestBody.fromBytes(bytes));
+		rememberKey(key, System.currentTimeMillis());
+		return toUrl(key);
+	}
+
+	/**
+	 * 같은 키의 객체를 PUT 없이 재사용해도 되는지 확인합니다. 로컬 인덱스를 먼저 보고, 없으면 HEAD 요청(본문 전송 없음)으로 확인합니다.
+	 * 💡 객체가 있어도 수정된 지 오래되었으면 false를 돌려 다시 PUT하게 합니다. 고아 정리는 유예 시간보다 오래된 객체만 지우므로,
+	 *    재사용한 요청은 적어도 유예 시간의 절반 동안은 객체가 지워지지 않는다고 믿고 DB에 기록할 수 있습니다.
+	 */
+	public boolean reusable(String key) {
+		Long lastModified;
+		knownKeysLock.lock();
+		try {
+			lastModified = knownKeys.get(key);
+		} finally {
+			knownKeysLock.unlock();
+		}
+		if (lastModified == null) {
+			Instant modified = lastModified(key);
+			if (modified == null) {
+				return false;
+			}
+			lastModified = modified.toEpochMilli();
+			rememberKey(key, lastModified);
+		}
+		return System.currentTimeMillis() - lastModified < reuseMaxAgeMillis;
+	}
+
+	/**
+	 * 객체의 마지막 수정 시각을 HEAD 요청으로 확인합니다. 객체가 없으면 null을 반환합니다.
+	 */
+	public Instant lastModified(String key) {
+		try {
+			HeadObjectResponse response = s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build());
+			return response.lastModified() != null ? response.lastModified() : Instant.now();
+		} catch (NoSuchKeyException e) {
+			return null;
+		} catch (S3Exception e) {
+			if (e.statusCode() == 404) {
+				return null;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * prefix 아래에서 modifiedBefore 이전에 수정된 객체 키를 페이지(최대 1000개) 단위로 넘겨줍니다. (고아 정리용)
+	 */
+	public void forEachObjectBatch(String prefix, Instant modifiedBefore, Consumer<List<String>> batchConsumer) {
+		ListObjectsV2Request request = ListObjectsV2Request.builder()
+			.bucket(bucketName)
+			.prefix(prefix)
+			.maxKeys(MAX_DELETE_KEYS)
+			.build();
+		s3Client.listObjectsV2Paginator(request).forEach(page -> {
+			List<String> keys = page.contents().stream()
+				.filter(object -> object.lastModified() != null && object.lastModified().isBefore(modifiedBefore))
+				.map(object -> object.key())
+				.toList();
+			if (!keys.isEmpty()) {
+				batchConsumer.accept(keys);
+			}
+		});
+	}
+
+	public String urlOf(String key) {
+		return toUrl(key);
+	}
+
+	/**
+	 * 이 버킷에 올라간 파일을 내려받습니다.
+	 */
+	public byte[] downloadFile(String fileUrl) {
+		String key = keyOf(fileUrl);
+		if (key == null) {
+			throw new IllegalArgumentException("이 버킷의 파일이 아닙니다: " + fileUrl);
+		}
+		return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+			.bucket(bucketName)
+			.key(key)
+			.build()).asByteArray();
+	}
+
+	/**
+	 * 업로드한 파일들을 삭제합니다. 실패해도 예외를 던지지 않습니다. (고아 객체 정리용)
+	 */
+	public void deleteFiles(Collection<String> fileUrls) {
+		List<ObjectIdentifier> objects = new ArrayList<>();
+		for (String url : fileUrls) {
+			String key = keyOf(url);
+			if (key != null) {
+				objects.add(ObjectIdentifier.builder().key(key).build());
+				forgetKey(key);
+			}
+		}
+
+		for (int from = 0; from < objects.size(); from += MAX_DELETE_KEYS) {
+			List<ObjectIdentifier> chunk = objects.subList(from, Math.min(from + MAX_DELETE_KEYS, objects.size()));
+			try {
+				s3Client.deleteObjects(DeleteObjectsRequest.builder()
+					.bucket(bucketName)
+					.delete(Delete.builder().objects(chunk).quiet(true).build())
+					.build());
+			} catch (RuntimeException e) {
+				log.warn("S3 파일 정리에 실패했습니다 ({}건): {}", chunk.size(), e.getMessage());
+			}
+		}
+	}
+
+	// 스트리밍으로 파일 내용을 읽으며 SHA-256 해시를 계산합니다. (파일 전체를 메모리에 올리지 않음)
+	private static String contentHash(MultipartFile multipartFile) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		byte[] buffer = new byte[8192];
+		try (InputStream in = multipartFile.getInputStream()) {
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private void rememberKey(String key, long lastModifiedMillis) {
+		knownKeysLock.lock();
+		try {
+			knownKeys.put(key, lastModifiedMillis);
+		} finally {
+			knownKeysLock.unlock();
+		}
+	}
+
+	private void forgetKey(String key) {
+		knownKeysLock.lock();
+		try {
+			knownKeys.remove(key);
+		} finally {
+			knownKeysLock.unlock();
+		}
+	}
+
+	// URL 형식: https://[버킷 이름].s3.[리전].amazonaws.com/[객체 키]
+	private String toUrl(String key) {
+		return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, key);
+	}
+
+	/**
+	 * 공개 URL에서 S3 객체 키를 추출합니다. 이 버킷의 URL이 아니면 null을 반환합니다.
+	 */
+	public String keyOf(String url) {
+		String prefix = toUrl("");
+		return (url != null && url.startsWith(prefix)) ? url.substring(prefix.length()) : null;
+	}
+}
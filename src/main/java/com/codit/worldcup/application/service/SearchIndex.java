@@ -0,0 +1,381 @@
+package com.codit.worldcup.application.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.codit.worldcup.domain.entity.Worldcup;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 월드컵 제목과 후보 이름을 대상으로 하는 메모리 역색인 검색
+ * 💡 공백을 제거하고 정규화(NFC, 소문자)한 문자열을 1-gram/2-gram으로 쪼개 색인하므로,
+ *    한국어처럼 형태소 경계가 분명하지 않은 텍스트도 부분 문자열로 찾을 수 있습니다. ("월드컵" → "월드", "드컵")
+ *    검색어가 초성으로만 이루어져 있으면 ("ㅇㅅㅎ") 초성으로 변환해 둔 색인에서 찾습니다.
+ *    n-gram 교집합은 후보를 좁히는 용도이고, 최종 일치 여부는 원문 부분 문자열 비교로 확인합니다.
+ *    월드컵 생성/수정/삭제 시 해당 월드컵 문서만 갱신하고, 기동 시에는 전체를 병렬로 분석해 다시 만듭니다.
+ */
+@Component
+public class SearchIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(SearchIndex.class);
+
+	private static final int MAX_QUERY_LENGTH = 50;
+	private static final int MAX_MATCHED_CANDIDATES = 3;
+	private static final char CHOSEONG_GRAM_PREFIX = '\u0000'; // 초성 n-gram을 일반 n-gram과 구분
+	private static final char[] CHOSEONG = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private final WorldcupRepository worldcupRepository;
+	private final CandidateRepository candidateRepository;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private Map<Long, Document> documents = new HashMap<>();       // lock으로 보호
+	private Map<String, Set<Long>> postings = new HashMap<>();     // n-gram → 월드컵 ID
+	private Set<Long> touchedDuringRebuild;                        // 재구성 중 put/remove된 월드컵 ID (재구성 중이 아니면 null)
+
+	public SearchIndex(WorldcupRepository worldcupRepository, CandidateRepository candidateRepository,
+		PlatformTransactionManager transactionManager) {
+		this.worldcupRepository = worldcupRepository;
+		this.candidateRepository = candidateRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * 애플리케이션 시작 시 DB의 월드컵/후보 전체로 색인을 다시 만듭니다.
+	 * 💡 문서 분석(정규화, n-gram 추출)은 병렬로 하고, 역색인 병합과 교체만 잠금 안에서 합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		long startedAt = System.nanoTime();
+		lock.writeLock().lock();
+		try {
+			touchedDuringRebuild = new HashSet<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		try {
+			Map<Long, List<String>> candidateNames = new HashMap<>();
+			List<Worldcup> worldcups = readOnlyTransaction.execute(status -> {
+				// 랭킹용 후보 프로젝션을 재사용 (이름과 월드컵 ID만 사용)
+				try (Stream<CandidateRankRow> rows = candidateRepository.streamRankRows()) {
+					rows.forEach(row -> candidateNames.computeIfAbsent(row.worldcupId(), id -> new ArrayList<>()).add(row.name()));
+				}
+				return worldcupRepository.findAllByDeletedFalse();
+			});
+
+			List<Document> analyzed = worldcups.parallelStream()
+				.map(wc -> Document.analyze(wc.getId(), wc.getTitle(), listThumbnailOf(wc),
+					candidateNames.getOrDefault(wc.getId(), List.of())))
+				.toList();
+
+			Map<Long, Document> newDocuments = new HashMap<>();
+			Map<String, Set<Long>> newPostings = new HashMap<>();
+			analyzed.forEach(document -> index(newDocuments, newPostings, document));
+
+			lock.writeLock().lock();
+			try {
+				// 💡 DB를 읽는 동안 생성/수정/삭제된 월드컵은 새 색인에 반영되지 않았을 수 있으므로,
+				//    그동안 계속 갱신된 현재 색인의 문서로 덮어쓴 뒤 교체합니다.
+				for (Long worldcupId : touchedDuringRebuild) {
+					unindex(newDocuments, newPostings, worldcupId);
+					Document live = documents.get(worldcupId);
+					if (live != null) {
+						index(newDocuments, newPostings, live);
+					}
+				}
+				documents = newDocuments;
+				postings = newPostings;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			log.info("검색 색인을 다시 만들었습니다: 월드컵 {}개, n-gram {}개, {}ms",
+				newDocuments.size(), newPostings.size(), (System.nanoTime() - startedAt) / 1_000_000);
+		} finally {
+			lock.writeLock().lock();
+			try {
+				touchedDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	private static String listThumbnailOf(Worldcup worldcup) {
+		return (worldcup.getThumbnailPreviewUrl() != null) ? worldcup.getThumbnailPreviewUrl() : worldcup.getThumbnailUrl();
+	}
+
+	/**
+	 * 월드컵 하나의 문서를 추가하거나 교체합니다. (생성/수정 커밋 후 호출)
+	 */
+	public void put(Worldcup worldcup, List<String> candidateNames) {
+		Document document = Document.analyze(worldcup.getId(), worldcup.getTitle(), listThumbnailOf(worldcup), candidateNames);
+		lock.writeLock().lock();
+		try {
+			unindex(documents, postings, document.worldcupId);
+			index(documents, postings, document);
+			touched(document.worldcupId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long worldcupId) {
+		lock.writeLock().lock();
+		try {
+			unindex(documents, postings, worldcupId);
+			touched(worldcupId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 쓰기 잠금 안에서 호출
+	private void touched(Long worldcupId) {
+		if (touchedDuringRebuild != null) {
+			touchedDuringRebuild.add(worldcupId);
+		}
+	}
+
+	private static void index(Map<Long, Document> documents, Map<String, Set<Long>> postings, Document document) {
+		documents.put(document.worldcupId, document);
+		document.grams.forEach(gram -> postings.computeIfAbsent(gram, g -> new HashSet<>()).add(document.worldcupId));
+	}
+
+	private static void unindex(Map<Long, Document> documents, Map<String, Set<Long>> postings, Long worldcupId) {
+		Document old = documents.remove(worldcupId);
+		if (old == null) {
+			return;
+		}
+		for (String gram : old.grams) {
+			Set<Long> ids = postings.get(gram);
+			if (ids != null && ids.remove(worldcupId) && ids.isEmpty()) {
+				postings.remove(gram);
+			}
+		}
+	}
+
+	/**
+	 * 검색어와 일치하는 월드컵을 점수 순으로 반환합니다.
+	 * 💡 공백으로 나눈 모든 단어가 제목 또는 후보 이름 중 하나에 포함되어야 일치로 봅니다.
+	 *    점수: 제목 일치 > 제목 접두 일치 > 후보 이름 일치, 동점이면 최신 월드컵 순
+	 */
+	public Page search(String query, int offset, int limit) {
+		List<String> terms = terms(query);
+		lock.readLock().lock();
+		try {
+			Set<Long> matchedIds = null;
+			for (String term : terms) {
+				Set<Long> ids = candidatesFor(term);
+				if (matchedIds == null) {
+					matchedIds = ids;
+				} else {
+					matchedIds.retainAll(ids);
+				}
+				if (matchedIds.isEmpty()) {
+					return new Page(List.of(), 0);
+				}
+			}
+
+			List<Hit> hits = new ArrayList<>();
+			for (Long worldcupId : matchedIds) {
+				Hit hit = documents.get(worldcupId).match(terms);
+				if (hit != null) {
+					hits.add(hit);
+				}
+			}
+			hits.sort(Comparator.comparingInt(Hit::score).reversed()
+				.thenComparing(Hit::worldcupId, Comparator.reverseOrder()));
+
+			List<Hit> page = (offset >= hits.size()) ? List.of() : hits.subList(offset, Math.min(hits.size(), offset + limit));
+			return new Page(List.copyOf(page), hits.size());
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static List<String> terms(String query) {
+		if (query == null || query.isBlank()) {
+			throw new IllegalArgumentException("검색어를 입력해 주세요.");
+		}
+		if (query.length() > MAX_QUERY_LENGTH) {
+			throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자 이하여야 합니다.");
+		}
+		return Stream.of(normalize(query).split(" "))
+			.filter(term -> !term.isEmpty())
+			.distinct()
+			.collect(Collectors.toList());
+	}
+
+	// 단어의 n-gram posting을 작은 것부터 교집합 (잠금 안에서 호출, 반환 집합은 새로 만든 것)
+	private Set<Long> candidatesFor(String term) {
+		List<Set<Long>> lists = new ArrayList<>();
+		for (String gram : grams(isChoseongOnly(term) ? CHOSEONG_GRAM_PREFIX + term : term)) {
+			Set<Long> ids = postings.get(gram);
+			if (ids == null) {
+				return new HashSet<>();
+			}
+			lists.add(ids);
+		}
+		lists.sort(Comparator.comparingInt(Set::size));
+		Set<Long> result = new HashSet<>(lists.get(0));
+		for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+			result.retainAll(lists.get(i));
+		}
+		return result;
+	}
+
+	// NFC 정규화(분리된 자모를 음절로 결합) + 소문자 + 연속 공백을 하나로
+	// 💡 NFKC는 호환 자모(ㄱ)를 조합용 자모로 바꿔 초성 검색이 깨지므로 사용하지 않습니다.
+	static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFC)
+			.toLowerCase(Locale.ROOT)
+			.trim()
+			.replaceAll("\\s+", " ");
+	}
+
+	static String compact(String normalized) {
+		return normalized.replace(" ", "");
+	}
+
+	// 한글 음절은 초성 자모로 바꾸고, 그 밖의 문자는 그대로 둡니다.
+	static String choseongOf(String compact) {
+		StringBuilder builder = new StringBuilder(compact.length());
+		for (int i = 0; i < compact.length(); i++) {
+			char c = compact.charAt(i);
+			builder.append((c >= '가' && c <= '힣') ? CHOSEONG[(c - '가') / (21 * 28)] : c);
+		}
+		return builder.toString();
+	}
+
+	static boolean isChoseongOnly(String term) {
+		return term.chars().allMatch(c -> c >= 'ㄱ' && c <= 'ㅎ');
+	}
+
+	// 한 글자는 1-gram, 두 글자 이상은 2-gram (초성 접두 문자는 n-gram마다 붙임)
+	private static Set<String> grams(String text) {
+		Set<String> grams = new HashSet<>();
+		boolean choseong = !text.isEmpty() && text.charAt(0) == CHOSEONG_GRAM_PREFIX;
+		String body = choseong ? text.substring(1) : text;
+		String prefix = choseong ? String.valueOf(CHOSEONG_GRAM_PREFIX) : "";
+		if (body.length() == 1) {
+			grams.add(prefix + body);
+		}
+		for (int i = 0; i + 2 <= body.length(); i++) {
+			grams.add(prefix + body.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	/**
+	 * 검색 결과 한 건
+	 * @param matchedCandidates 검색어와 일치한 후보 이름 (최대 3개)
+	 */
+	public record Hit(Long worldcupId, String title, String thumbnailUrl, List<String> matchedCandidates, int score) {
+	}
+
+	public record Page(List<Hit> hits, int total) {
+	}
+
+	/**
+	 * 색인된 월드컵 하나. 원문과 비교용 정규화 문자열, 색인에 넣은 n-gram 집합을 함께 보관합니다.
+	 */
+	private static final class Document {
+		private final Long worldcupId;
+		private final String title;
+		private final String thumbnailUrl;
+		private final List<String> candidateNames;
+		private final String titleKey;              // 공백 제거한 정규화 제목
+		private final String titleChoseong;
+		private final List<String> candidateKeys;
+		private final List<String> candidateChoseongs;
+		private final Set<String> grams;
+
+		private Document(Long worldcupId, String title, String thumbnailUrl, List<String> candidateNames) {
+			this.worldcupId = worldcupId;
+			this.title = title;
+			this.thumbnailUrl = thumbnailUrl;
+			this.candidateNames = List.copyOf(candidateNames);
+			this.titleKey = compact(normalize(title));
+			this.titleChoseong = choseongOf(titleKey);
+			this.candidateKeys = candidateNames.stream().map(name -> compact(normalize(name))).toList();
+			this.candidateChoseongs = candidateKeys.stream().map(SearchIndex::choseongOf).toList();
+			this.grams = new HashSet<>();
+			collectGrams(titleKey, titleChoseong);
+			for (int i = 0; i < candidateKeys.size(); i++) {
+				collectGrams(candidateKeys.get(i), candidateChoseongs.get(i));
+			}
+		}
+
+		private static Document analyze(Long worldcupId, String title, String thumbnailUrl, List<String> candidateNames) {
+			return new Document(worldcupId, title, thumbnailUrl, candidateNames);
+		}
+
+		private void collectGrams(String key, String choseong) {
+			for (int i = 0; i < key.length(); i++) {
+				grams.add(key.substring(i, i + 1));
+				if (i + 2 <= key.length()) {
+					grams.add(key.substring(i, i + 2));
+				}
+			}
+			for (int i = 0; i < choseong.length(); i++) {
+				grams.add(CHOSEONG_GRAM_PREFIX + choseong.substring(i, i + 1));
+				if (i + 2 <= choseong.length()) {
+					grams.add(CHOSEONG_GRAM_PREFIX + choseong.substring(i, i + 2));
+				}
+			}
+		}
+
+		// 모든 단어가 제목이나 후보 이름 중 하나에 실제로 포함되는지 확인하고 점수를 매깁니다. (불일치 시 null)
+		private Hit match(List<String> terms) {
+			int score = 0;
+			Set<String> matchedCandidates = new LinkedHashSet<>();
+			for (String term : terms) {
+				String key = compact(term);
+				boolean choseong = isChoseongOnly(key);
+				int termScore = 0;
+
+				int titleIndex = (choseong ? titleChoseong : titleKey).indexOf(key);
+				if (titleIndex >= 0) {
+					termScore += 100 + (titleIndex == 0 ? 50 : 0) + (titleKey.length() == key.length() ? 50 : 0);
+				}
+				for (int i = 0; i < candidateKeys.size(); i++) {
+					int nameIndex = (choseong ? candidateChoseongs.get(i) : candidateKeys.get(i)).indexOf(key);
+					if (nameIndex >= 0) {
+						termScore += (nameIndex == 0) ? 15 : 10;
+						if (matchedCandidates.size() < MAX_MATCHED_CANDIDATES) {
+							matchedCandidates.add(candidateNames.get(i));
+						}
+					}
+				}
+				if (termScore == 0) {
+					return null;
+				}
+				score += termScore;
+			}
+			return new Hit(worldcupId, title, thumbnailUrl, List.copyOf(matchedCandidates), score);
+		}
+	}
+}
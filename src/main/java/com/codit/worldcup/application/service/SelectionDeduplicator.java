@@ -0,0 +1,173 @@
+package com.codit.worldcup.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 선택 요청의 멱등 키(idempotencyKey)를 기억해 재시도/중복 클릭으로 같은 선택이 두 번 기록되지 않게 합니다.
+ * 💡 두 단계로 확인합니다.
+ *    1) 최근 exact-ttl 동안의 키는 정확한 집합(ConcurrentHashMap)에 두어, 동시에 들어온 중복도 putIfAbsent 한 번으로 걸러냅니다.
+ *    2) 그보다 오래된 키(최대 bloom-window × 2)는 Bloom 필터로 기억합니다. 메모리는 키 수와 무관하게 고정이지만
+ *       bloom-fpp 확률로 처음 보는 키를 중복으로 오인할 수 있습니다. (기본 0.01%)
+ *    두 구조 모두 "현재/이전" 두 세대를 두고 창이 지나면 이전 세대를 통째로 버리는 방식으로 만료시킵니다.
+ *    DB는 전혀 조회하지 않습니다.
+ */
+@Component
+public class SelectionDeduplicator {
+
+	public static final int MAX_KEY_LENGTH = 100;
+
+	private final long exactTtlNanos;
+	private final int maxExactKeys;
+	private final long bloomWindowNanos;
+	private final int bloomBits;
+	private final int bloomHashes;
+	private final ReentrantLock rotationLock = new ReentrantLock();
+	private final Counter duplicates;
+
+	private volatile Map<String, Boolean> currentKeys = new ConcurrentHashMap<>();
+	private volatile Map<String, Boolean> previousKeys = new ConcurrentHashMap<>();
+	private volatile long keysRotatedAt = System.nanoTime();
+	private volatile BloomFilter currentBloom;
+	private volatile BloomFilter previousBloom;
+	private volatile long bloomRotatedAt = System.nanoTime();
+
+	public SelectionDeduplicator(MeterRegistry meterRegistry,
+		@Value("${worldcup.selection.dedupe.exact-ttl-seconds:60}") long exactTtlSeconds,
+		@Value("${worldcup.selection.dedupe.max-exact-keys:100000}") int maxExactKeys,
+		@Value("${worldcup.selection.dedupe.bloom-window-seconds:600}") long bloomWindowSeconds,
+		@Value("${worldcup.selection.dedupe.bloom-expected-keys:500000}") int bloomExpectedKeys,
+		@Value("${worldcup.selection.dedupe.bloom-fpp:0.0001}") double bloomFpp) {
+		this.exactTtlNanos = TimeUnit.SECONDS.toNanos(exactTtlSeconds);
+		this.maxExactKeys = maxExactKeys;
+		this.bloomWindowNanos = TimeUnit.SECONDS.toNanos(bloomWindowSeconds);
+		// 최적 크기: m = -n ln p / (ln 2)^2, k = m / n ln 2
+		long bits = (long)Math.ceil(-bloomExpectedKeys * Math.log(bloomFpp) / (Math.log(2) * Math.log(2)));
+		this.bloomBits = (int)Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+		this.bloomHashes = Math.max(1, (int)Math.round((double)bloomBits / bloomExpectedKeys * Math.log(2)));
+		this.currentBloom = new BloomFilter(bloomBits, bloomHashes);
+		this.previousBloom = new BloomFilter(bloomBits, bloomHashes);
+		this.duplicates = Counter.builder("worldcup.selection.duplicates")
+			.description("멱등 키로 걸러낸 중복 선택 요청 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 처음 보는 키면 예약하고 true를 반환합니다. 이미 처리했거나 처리 중인 키면 false입니다.
+	 * 💡 예약한 요청은 성공 시 complete(), 실패 시 release()를 호출해야 합니다. (실패한 요청의 재시도는 통과)
+	 */
+	public boolean tryAcquire(String key) {
+		rotateIfDue();
+		if (currentKeys.putIfAbsent(key, Boolean.TRUE) != null || previousKeys.containsKey(key)) {
+			duplicates.increment();
+			return false;
+		}
+		if (currentBloom.mightContain(key) || previousBloom.mightContain(key)) {
+			duplicates.increment();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 처리에 성공한 키를 Bloom 필터에 기록합니다. (정확한 집합에서 만료된 뒤에도 오래 기억하기 위해)
+	 */
+	public void complete(String key) {
+		currentBloom.put(key);
+	}
+
+	/**
+	 * 처리에 실패한 키의 예약을 풀어 재시도가 기록될 수 있게 합니다.
+	 */
+	public void release(String key) {
+		currentKeys.remove(key);
+		previousKeys.remove(key);
+	}
+
+	private void rotateIfDue() {
+		long now = System.nanoTime();
+		boolean keysDue = now - keysRotatedAt > exactTtlNanos || currentKeys.size() > maxExactKeys;
+		boolean bloomDue = now - bloomRotatedAt > bloomWindowNanos;
+		if (!keysDue && !bloomDue) {
+			return;
+		}
+		if (!rotationLock.tryLock()) {
+			return; // 다른 스레드가 교체 중
+		}
+		try {
+			if (now - keysRotatedAt > exactTtlNanos || currentKeys.size() > maxExactKeys) {
+				previousKeys = currentKeys;
+				currentKeys = new ConcurrentHashMap<>();
+				keysRotatedAt = now;
+			}
+			if (now - bloomRotatedAt > bloomWindowNanos) {
+				previousBloom = currentBloom;
+				currentBloom = new BloomFilter(bloomBits, bloomHashes);
+				bloomRotatedAt = now;
+			}
+		} finally {
+			rotationLock.unlock();
+		}
+	}
+
+	/**
+	 * 잠금 없이 동시에 추가/조회할 수 있는 Bloom 필터 (비트 배열은 AtomicLongArray)
+	 */
+	private static final class BloomFilter {
+		private final AtomicLongArray words;
+		private final int bits;
+		private final int hashes;
+
+		private BloomFilter(int bits, int hashes) {
+			this.words = new AtomicLongArray((bits + 63) / 64);
+			this.bits = bits;
+			this.hashes = hashes;
+		}
+
+		private void put(String key) {
+			long hash = hash64(key);
+			int h1 = (int)hash;
+			int h2 = (int)(hash >>> 32);
+			for (int i = 0; i < hashes; i++) {
+				int bit = Math.floorMod(h1 + i * h2, bits);
+				long mask = 1L << bit;
+				words.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+			}
+		}
+
+		private boolean mightContain(String key) {
+			long hash = hash64(key);
+			int h1 = (int)hash;
+			int h2 = (int)(hash >>> 32);
+			for (int i = 0; i < hashes; i++) {
+				int bit = Math.floorMod(h1 + i * h2, bits);
+				if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		// FNV-1a 64비트 + SplitMix64 마무리 (두 해시를 이중 해싱으로 k개로 확장)
+		private static long hash64(String key) {
+			long hash = 0xCBF29CE484222325L;
+			for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+				hash ^= (b & 0xFF);
+				hash *= 0x100000001B3L;
+			}
+			hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+			hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+			return hash ^ (hash >>> 31);
+		}
+	}
+}
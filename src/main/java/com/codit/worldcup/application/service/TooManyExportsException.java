@@ -0,0 +1,15 @@
+package com.codit.worldcup.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 동시에 진행 중인 내보내기가 이미 최대치일 때 발생합니다. (429 Too Many Requests)
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyExportsException extends RuntimeException {
+
+	public TooManyExportsException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,15 @@
+package com.codit.worldcup.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 비밀번호 해시 작업이 밀려 있어 로그인 요청을 받을 수 없을 때 발생합니다. (429 Too Many Requests)
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyLoginAttemptsException extends RuntimeException {
+
+	public TooManyLoginAttemptsException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,15 @@
+package com.codit.worldcup.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 실시간 랭킹 구독자 수가 이미 최대치일 때 발생합니다. (429 Too Many Requests)
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRankSubscribersException extends RuntimeException {
+
+	public TooManyRankSubscribersException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,175 @@
+package com.codit.worldcup.application.service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 서버가 대진표를 만들고, 클라이언트는 한 판이 끝난 뒤 선택 전체를 한 번에 제출하는 토너먼트 세션을 관리합니다.
+ * 💡 대결마다 POST 하던 방식(32강 기준 31회 요청/트랜잭션)을 시작 1회 + 제출 1회로 줄이고,
+ *    제출된 선택은 서버가 보관한 대진표로 검증하므로 round/loserId를 클라이언트에게 맡기지 않습니다.
+ *
+ * 대진 규칙 (프론트엔드와 동일)
+ * - 각 라운드는 앞에서부터 두 명씩 대결하고, 홀수로 남은 마지막 후보는 부전승으로 다음 라운드에 진출합니다.
+ * - 다음 라운드는 이번 라운드 승자들을 대결 순서대로 이어 붙여 구성합니다.
+ */
+@Service
+public class TournamentService {
+
+	private final CandidateRepository candidateRepository;
+	private final WorldcupRepository worldcupRepository;
+	private final WorldcupService worldcupService;
+	private final SecureRandom tokenRandom = new SecureRandom();
+	private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+	@Value("${worldcup.tournament.session-ttl-minutes:60}")
+	private long sessionTtlMinutes;
+
+	@Value("${worldcup.tournament.max-sessions:100000}")
+	private int maxSessions;
+
+	public TournamentService(CandidateRepository candidateRepository, WorldcupRepository worldcupRepository, WorldcupService worldcupService) {
+		this.candidateRepository = candidateRepository;
+		this.worldcupRepository = worldcupRepository;
+		this.worldcupService = worldcupService;
+	}
+
+	/**
+	 * 새 토너먼트를 시작하고 무작위로 섞인 대진표를 반환합니다.
+	 */
+	public StartedSession start(Long worldcupId, Long userId) {
+		// 💡 결과 행(user_result.user_id)은 사용자 없이 저장할 수 없으므로, 제출 시점이 아니라 시작할 때 거절합니다.
+		if (userId == null) {
+			throw new IllegalArgumentException("사용자 ID가 필요합니다.");
+		}
+		if (!worldcupRepository.existsByIdAndDeletedFalse(worldcupId)) {
+			throw new IllegalArgumentException("존재하지 않는 월드컵 ID입니다: " + worldcupId);
+		}
+		List<Long> candidateIds = candidateRepository.findIdsByWorldcupId(worldcupId);
+		if (candidateIds.size() < 2) {
+			throw new IllegalArgumentException("후보가 부족한 월드컵입니다.");
+		}
+		if (sessions.size() >= maxSessions) {
+			throw new IllegalStateException("진행 중인 토너먼트가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		// 후보 목록을 무작위로 섞습니다. (Fisher-Yates 알고리즘)
+		long[] bracket = candidateIds.stream().mapToLong(Long::longValue).toArray();
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = bracket.length - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			long tmp = bracket[i];
+			bracket[i] = bracket[j];
+			bracket[j] = tmp;
+		}
+
+		String token = newToken();
+		sessions.put(token, new Session(worldcupId, userId, bracket, System.currentTimeMillis()));
+		return new StartedSession(token, bracket);
+	}
+
+	/**
+	 * 한 판 동안의 선택 전체를 검증한 뒤 기록하고 최종 우승자 ID를 반환합니다.
+	 * @param picks 대결 순서대로의 승자 ID (부전승 제외, 후보 수 - 1 개)
+	 */
+	public long submit(Long worldcupId, String token, long[] picks) {
+		Session session = sessions.get(token);
+		if (session == null || session.isExpired(System.currentTimeMillis(), sessionTtlMinutes)) {
+			throw new IllegalArgumentException("존재하지 않거나 만료된 토너먼트입니다.");
+		}
+		if (session.worldcupId != worldcupId) {
+			throw new IllegalArgumentException("월드컵 정보가 일치하지 않습니다.");
+		}
+
+		long winnerId = replay(session.bracket, picks);
+
+		// 💡 검증에 성공한 세션만 제거하여 같은 결과가 두 번 기록되지 않도록 합니다.
+		if (!sessions.remove(token, session)) {
+			throw new IllegalArgumentException("이미 제출된 토너먼트입니다.");
+		}
+		worldcupService.recordTournament(worldcupId, picks, session.userId);
+		return winnerId;
+	}
+
+	/**
+	 * 대진표를 따라 선택을 재생하며 각 선택이 실제 대결 상대 중 하나인지 검증합니다.
+	 */
+	static long replay(long[] bracket, long[] picks) {
+		if (picks == null || picks.length != bracket.length - 1) {
+			throw new IllegalArgumentException("선택 수가 대진표와 일치하지 않습니다.");
+		}
+
+		long[] current = bracket.clone();
+		int length = current.length;
+		int pickIndex = 0;
+		while (length > 1) {
+			int next = 0;
+			for (int i = 0; i + 1 < length; i += 2) {
+				long pick = picks[pickIndex++];
+				if (pick != current[i] && pick != current[i + 1]) {
+					throw new IllegalArgumentException((pickIndex) + "번째 선택이 대진표와 일치하지 않습니다.");
+				}
+				current[next++] = pick;
+			}
+			if (length % 2 == 1) {
+				current[next++] = current[length - 1]; // 부전승
+			}
+			length = next;
+		}
+		return current[0];
+	}
+
+	/**
+	 * 삭제된 월드컵의 진행 중인 세션을 버립니다. (삭제 후 제출되는 결과는 recordTournament에서도 거절됨)
+	 */
+	public void forgetWorldcup(Long worldcupId) {
+		sessions.values().removeIf(session -> session.worldcupId == worldcupId);
+	}
+
+	/**
+	 * 만료된 세션을 정리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${worldcup.tournament.cleanup-interval-ms:60000}")
+	public void evictExpiredSessions() {
+		long now = System.currentTimeMillis();
+		sessions.values().removeIf(session -> session.isExpired(now, sessionTtlMinutes));
+	}
+
+	private String newToken() {
+		byte[] bytes = new byte[16];
+		tokenRandom.nextBytes(bytes);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	public record StartedSession(String token, long[] bracket) {
+	}
+
+	// 세션 상태는 박싱 없이 원시 타입 배열/필드로만 보관합니다.
+	private static final class Session {
+		private final long worldcupId;
+		private final long userId;
+		private final long[] bracket;
+		private final long createdAtMillis;
+
+		private Session(long worldcupId, long userId, long[] bracket, long createdAtMillis) {
+			this.worldcupId = worldcupId;
+			this.userId = userId;
+			this.bracket = bracket;
+			this.createdAtMillis = createdAtMillis;
+		}
+
+		private boolean isExpired(long now, long ttlMinutes) {
+			return now - createdAtMillis > ttlMinutes * 60_000L;
+		}
+	}
+}
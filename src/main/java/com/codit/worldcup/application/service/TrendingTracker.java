@@ -0,0 +1,209 @@
+package com.codit.worldcup.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 선택 수를 기준으로 "지금 인기 있는" 월드컵 순위를 계산합니다.
+ * 💡 월드컵마다 분 단위 선택 수를 담는 링 버퍼를 두고, 선택이 기록될 때 해당 분의 칸만 CAS로 증가시킵니다.
+ *    한 칸에는 (분, 횟수)를 long 하나로 묶어 저장하므로, 오래된 칸은 새 분이 들어올 때 잠금 없이 덮어써집니다.
+ *    점수는 창(window) 안의 선택 수에 시간 감쇠(반감기 = 창 길이의 1/4)를 적용한 합이며, 요청 시 DB 조회가 없습니다.
+ *    추적하는 월드컵 수는 max-tracked로 제한되고, 넘치면 가장 오래 조용했던 월드컵부터 내려놓습니다.
+ */
+@Component
+public class TrendingTracker {
+
+	private static final Pattern WINDOW_PATTERN = Pattern.compile("(\\d+)([mhd])");
+
+	private final Map<String, Window> windows = new LinkedHashMap<>();
+	private final int slotCount;
+	private final int maxTracked;
+	private final long refreshNanos;
+	private final Map<Long, MinuteRing> rings = new ConcurrentHashMap<>();
+	private final ReentrantLock admissionLock = new ReentrantLock();
+
+	public TrendingTracker(
+		@Value("${worldcup.trending.windows:1h,24h}") List<String> windowNames,
+		@Value("${worldcup.trending.max-tracked:1000}") int maxTracked,
+		@Value("${worldcup.trending.refresh-ms:5000}") long refreshMillis) {
+		for (String name : windowNames) {
+			windows.put(name.trim(), new Window(parseMinutes(name.trim())));
+		}
+		this.slotCount = windows.values().stream().mapToInt(window -> window.minutes).max()
+			.orElseThrow(() -> new IllegalStateException("worldcup.trending.windows가 비어 있습니다."));
+		this.maxTracked = maxTracked;
+		this.refreshNanos = TimeUnit.MILLISECONDS.toNanos(refreshMillis);
+	}
+
+	private static int parseMinutes(String name) {
+		Matcher matcher = WINDOW_PATTERN.matcher(name);
+		if (!matcher.matches()) {
+			throw new IllegalStateException("인기 순위 창 형식이 올바르지 않습니다 (예: 30m, 1h, 1d): " + name);
+		}
+		int amount = Integer.parseInt(matcher.group(1));
+		return switch (matcher.group(2)) {
+			case "m" -> amount;
+			case "h" -> amount * 60;
+			default -> amount * 60 * 24;
+		};
+	}
+
+	/**
+	 * 월드컵에서 선택이 한 번 일어났음을 기록합니다.
+	 */
+	public void record(Long worldcupId) {
+		MinuteRing ring = rings.get(worldcupId);
+		if (ring == null) {
+			ring = admit(worldcupId);
+		}
+		ring.increment(currentMinute());
+	}
+
+	// 처음 보는 월드컵만 잠금을 잡습니다. (이미 추적 중인 월드컵의 기록은 잠금 없음)
+	private MinuteRing admit(Long worldcupId) {
+		admissionLock.lock();
+		try {
+			MinuteRing ring = rings.get(worldcupId);
+			if (ring != null) {
+				return ring;
+			}
+			if (rings.size() >= maxTracked) {
+				rings.entrySet().stream()
+					.min(Comparator.comparingInt(entry -> entry.getValue().lastMinute))
+					.ifPresent(quietest -> rings.remove(quietest.getKey(), quietest.getValue()));
+			}
+			ring = new MinuteRing(slotCount);
+			rings.put(worldcupId, ring);
+			return ring;
+		} finally {
+			admissionLock.unlock();
+		}
+	}
+
+	/**
+	 * 삭제된 월드컵을 추적 대상에서 제외합니다.
+	 */
+	public void forget(Long worldcupId) {
+		rings.remove(worldcupId);
+		windows.values().forEach(window -> window.ranking = null);
+	}
+
+	/**
+	 * 창 안에서 점수가 높은 순으로 최대 limit개의 월드컵을 반환합니다. (선택이 없는 월드컵은 제외)
+	 * 💡 전체 순위는 refresh-ms 동안 재사용하므로, 요청이 몰려도 링 버퍼 전체를 매번 훑지 않습니다.
+	 */
+	public List<Trend> top(String windowName, int limit) {
+		Window window = windows.get(windowName);
+		if (window == null) {
+			throw new IllegalArgumentException("지원하지 않는 인기 순위 창입니다: " + windowName + " (가능: " + windows.keySet() + ")");
+		}
+		Ranking ranking = window.ranking;
+		long now = System.nanoTime();
+		if (ranking == null || now - ranking.computedAt() > refreshNanos) {
+			ranking = new Ranking(rank(window), now);
+			window.ranking = ranking;
+		}
+		return ranking.trends().subList(0, Math.min(limit, ranking.trends().size()));
+	}
+
+	private List<Trend> rank(Window window) {
+		int now = currentMinute();
+		List<Trend> trends = new ArrayList<>();
+		rings.forEach((worldcupId, ring) -> {
+			Trend trend = ring.score(worldcupId, now, window);
+			if (trend.selections() > 0) {
+				trends.add(trend);
+			}
+		});
+		trends.sort(Comparator.comparingDouble(Trend::score).reversed().thenComparing(Trend::worldcupId));
+		return List.copyOf(trends);
+	}
+
+	private static int currentMinute() {
+		return (int)TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+	}
+
+	/**
+	 * 창 하나의 인기 점수
+	 * @param selections 창 안의 선택 수 (감쇠 없음)
+	 * @param score 시간 감쇠를 적용한 점수 (최근 선택일수록 가중치가 큼)
+	 */
+	public record Trend(Long worldcupId, long selections, double score) {
+	}
+
+	private record Ranking(List<Trend> trends, long computedAt) {
+	}
+
+	private static final class Window {
+		private final int minutes;
+		private final double[] weights; // 경과 분 → 감쇠 가중치 (미리 계산)
+		private volatile Ranking ranking;
+
+		private Window(int minutes) {
+			this.minutes = minutes;
+			this.weights = new double[minutes];
+			double halfLife = Math.max(1.0, minutes / 4.0);
+			for (int age = 0; age < minutes; age++) {
+				weights[age] = Math.pow(0.5, age / halfLife);
+			}
+		}
+	}
+
+	/**
+	 * 분 단위 선택 수 링 버퍼. 각 칸은 상위 32비트에 분(epoch minute), 하위 32비트에 횟수를 담습니다.
+	 */
+	private static final class MinuteRing {
+		private final AtomicLongArray slots;
+		private volatile int lastMinute;
+
+		private MinuteRing(int size) {
+			this.slots = new AtomicLongArray(size);
+		}
+
+		private void increment(int minute) {
+			int index = Math.floorMod(minute, slots.length());
+			while (true) {
+				long current = slots.get(index);
+				int slotMinute = (int)(current >>> 32);
+				if (slotMinute > minute) {
+					return; // 이미 다음 바퀴의 분으로 넘어간 칸 (시계가 어긋난 늦은 기록은 버림)
+				}
+				long next = (slotMinute == minute) ? current + 1 : ((long)minute << 32) | 1L;
+				if (slots.compareAndSet(index, current, next)) {
+					break;
+				}
+			}
+			if (lastMinute < minute) {
+				lastMinute = minute;
+			}
+		}
+
+		private Trend score(Long worldcupId, int now, Window window) {
+			long selections = 0;
+			double score = 0;
+			for (int i = 0; i < slots.length(); i++) {
+				long slot = slots.get(i);
+				int age = now - (int)(slot >>> 32);
+				if (age < 0 || age >= window.minutes) {
+					continue;
+				}
+				long count = slot & 0xFFFFFFFFL;
+				selections += count;
+				score += count * window.weights[age];
+			}
+			return new Trend(worldcupId, selections, score);
+		}
+	}
+}
@@ -3,8 +3,8 @@ package com.codit.worldcup.application.service;
 import com.codit.worldcup.domain.entity.User;
 import com.codit.worldcup.domain.repository.UserRepository;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
@@ -13,13 +13,15 @@ import java.util.Optional;
 public class UserService {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
-	public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) { // 💡 생성자 수정
+	private final PasswordHasher passwordHasher;
+	private final NicknameResolver nicknameResolver;
+	public UserService(UserRepository userRepository, PasswordHasher passwordHasher, NicknameResolver nicknameResolver) { // 💡 생성자 수정
 		this.userRepository = userRepository;
-		this.passwordEncoder = passwordEncoder;
+		this.passwordHasher = passwordHasher;
+		this.nicknameResolver = nicknameResolver;
 	}
 
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED) // 💡 해시 작업을 기다리는 동안 DB 커넥션을 잡고 있지 않습니다.
 	public User login(String nickname, String rawPassword) {
 		Optional<User> existingUserOpt = userRepository.findByNickname(nickname);
 
@@ -28,7 +30,7 @@ public class UserService {
 			User user = existingUserOpt.get();
 
 			// 💡 비밀번호 일치 여부 확인
-			if (!passwordEncoder.matches(rawPassword, user.getPassword())) {
+			if (!passwordHasher.matches(rawPassword, user.getPassword())) {
 				throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
 			}
 			return user;
@@ -37,7 +39,7 @@ public class UserService {
 			// 2. 닉네임이 존재하지 않는 경우 (가입)
 
 			// 💡 비밀번호 해시
-			String encodedPassword = passwordEncoder.encode(rawPassword);
+			String encodedPassword = passwordHasher.encode(rawPassword);
 
 			String role = "user";
 			if (nickname.equals("admin")) {
@@ -49,7 +51,9 @@ public class UserService {
 				.role(role)
 				.password(encodedPassword) // 💡 해시된 비밀번호 저장
 				.build();
-			return userRepository.save(newUser); // DB에 저장 후 반환
+			User savedUser = userRepository.save(newUser); // DB에 저장 후 반환
+			nicknameResolver.invalidate(savedUser.getId());
+			return savedUser;
 		}
 	}
 }
\ No newline at end of file
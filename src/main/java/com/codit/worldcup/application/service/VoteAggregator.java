@@ -0,0 +1,123 @@
+package com.codit.worldcup.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 후보별 선택/우승 횟수를 메모리에 누적했다가 주기적으로 DB에 일괄 반영합니다.
+ * 💡 투표 요청마다 Candidate 행을 읽고 쓰는 대신 LongAdder(스트라이프 카운터)에 더하기만 하고,
+ *    flush 시점에 "count = count + ?" 형태의 배치 UPDATE 한 번으로 반영합니다.
+ */
+@Component
+public class VoteAggregator {
+
+	private static final Logger log = LoggerFactory.getLogger(VoteAggregator.class);
+
+	private static final String FLUSH_SQL =
+		"UPDATE candidate SET total_selection_count = total_selection_count + ?, win_count = win_count + ? WHERE id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<Long, CandidateCounter> counters = new ConcurrentHashMap<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public VoteAggregator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 후보의 총 선택 횟수(totalSelectionCount)를 1 증가시킵니다.
+	 */
+	public void recordSelection(Long candidateId) {
+		counterOf(candidateId).selections.increment();
+	}
+
+	/**
+	 * 후보의 1등 횟수(winCount)를 1 증가시킵니다.
+	 */
+	public void recordWin(Long candidateId) {
+		counterOf(candidateId).wins.increment();
+	}
+
+	private CandidateCounter counterOf(Long candidateId) {
+		return counters.computeIfAbsent(candidateId, id -> new CandidateCounter());
+	}
+
+	/**
+	 * 누적된 증가분을 배치 UPDATE로 DB에 반영합니다.
+	 * 💡 반영에 성공한 만큼만 카운터에서 빼므로, flush 도중 들어온 투표나 실패한 배치는 다음 주기로 넘어갑니다.
+	 */
+	@Scheduled(fixedDelayString = "${worldcup.vote.flush-interval-ms:1000}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			List<Long> candidateIds = new ArrayList<>();
+			List<long[]> deltas = new ArrayList<>();
+			List<Object[]> batchArgs = new ArrayList<>();
+
+			counters.forEach((candidateId, counter) -> {
+				long selections = counter.selections.sum();
+				long wins = counter.wins.sum();
+				if (selections == 0 && wins == 0) {
+					return;
+				}
+				candidateIds.add(candidateId);
+				deltas.add(new long[] {selections, wins});
+				batchArgs.add(new Object[] {selections, wins, candidateId});
+			});
+
+			if (batchArgs.isEmpty()) {
+				return;
+			}
+
+			int[] updatedRows = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+
+			for (int i = 0; i < candidateIds.size(); i++) {
+				Long candidateId = candidateIds.get(i);
+				CandidateCounter counter = counters.get(candidateId);
+				if (counter == null) {
+					continue;
+				}
+				if (updatedRows != null && updatedRows[i] == 0) {
+					// 존재하지 않는(삭제된) 후보의 카운터는 더 이상 들고 있지 않습니다.
+					counters.remove(candidateId, counter);
+					continue;
+				}
+				counter.selections.add(-deltas.get(i)[0]);
+				counter.wins.add(-deltas.get(i)[1]);
+			}
+		} catch (RuntimeException e) {
+			log.warn("투표 집계 flush에 실패했습니다. 다음 주기에 다시 시도합니다: {}", e.getMessage());
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 애플리케이션 종료 시 남아 있는 증가분을 모두 반영합니다.
+	 */
+	@PreDestroy
+	public void drain() {
+		flush();
+	}
+
+	private static final class CandidateCounter {
+		private final LongAdder selections = new LongAdder();
+		private final LongAdder wins = new LongAdder();
+	}
+}
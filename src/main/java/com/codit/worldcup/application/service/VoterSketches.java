@@ -0,0 +1,226 @@
+package com.codit.worldcup.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.codit.worldcup.domain.entity.VoterSketch;
+import com.codit.worldcup.domain.repository.VoterSketchRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 후보별/월드컵별 고유 투표자 수를 HyperLogLog 스케치로 근사합니다.
+ * 💡 user_result를 훑어 distinct를 세는 대신, 결과가 기록될 때마다 사용자 ID를 스케치에 더하기만 합니다.
+ *    새로 더해진 값은 메모리의 스케치에 모였다가 VoteAggregator처럼 주기적으로 DB 레지스터에 병합(max)되고,
+ *    조회는 병합 시점에 계산해 둔 추정값을 메모리에서 읽으므로 DB 조회가 없습니다. (flush 주기만큼 늦게 반영)
+ */
+@Component
+public class VoterSketches {
+
+	private static final Logger log = LoggerFactory.getLogger(VoterSketches.class);
+
+	private static final String CANDIDATE_KEY_PREFIX = "candidate:";
+	private static final String WORLDCUP_KEY_PREFIX = "worldcup:";
+
+	private final VoterSketchRepository voterSketchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Map<String, Long> estimates = new ConcurrentHashMap<>();
+	private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	public VoterSketches(VoterSketchRepository voterSketchRepository, PlatformTransactionManager transactionManager) {
+		this.voterSketchRepository = voterSketchRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * 애플리케이션 시작 시 저장된 추정값을 적재합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		readOnlyTransaction.executeWithoutResult(status -> {
+			try (Stream<VoterSketchRepository.SketchEstimate> rows = voterSketchRepository.streamEstimates()) {
+				rows.forEach(row -> estimates.put(row.getSketchKey(), row.getEstimate()));
+			}
+		});
+	}
+
+	/**
+	 * 사용자가 후보를 최종 우승자로 뽑았음을 기록합니다. (후보 스케치와 월드컵 스케치에 모두 더함)
+	 */
+	public void recordWinner(Long worldcupId, Long candidateId, Long userId) {
+		if (userId == null) {
+			return;
+		}
+		add(CANDIDATE_KEY_PREFIX + candidateId, worldcupId, userId);
+		add(WORLDCUP_KEY_PREFIX + worldcupId, worldcupId, userId);
+	}
+
+	// 💡 스케치 갱신은 CAS 몇 번이지만, flush가 항목을 비우는 순간과 겹치지 않도록 같은 키에 대해서만 직렬화합니다.
+	private void add(String key, Long worldcupId, long userId) {
+		pending.compute(key, (k, current) -> {
+			Pending target = (current != null) ? current : new Pending(worldcupId);
+			if (target.sketch.add(userId)) {
+				target.dirty = true;
+			}
+			return target;
+		});
+	}
+
+	/**
+	 * 후보를 1등으로 뽑은 고유 사용자 수 (근사값)
+	 */
+	public long distinctWinners(Long candidateId) {
+		return estimates.getOrDefault(CANDIDATE_KEY_PREFIX + candidateId, 0L);
+	}
+
+	/**
+	 * 월드컵을 끝까지 진행한 고유 사용자 수 (근사값)
+	 */
+	public long distinctVoters(Long worldcupId) {
+		return estimates.getOrDefault(WORLDCUP_KEY_PREFIX + worldcupId, 0L);
+	}
+
+	/**
+	 * 모든 월드컵을 통틀어 한 번이라도 끝까지 진행한 고유 사용자 수 (근사값)
+	 * 💡 월드컵별 스케치를 병합하므로 여러 월드컵에 참여한 사용자도 한 번만 셉니다. (월드컵 수 × 1KB를 읽음)
+	 */
+	public long distinctVotersOfAll() {
+		HyperLogLog union = new HyperLogLog();
+		readOnlyTransaction.executeWithoutResult(status -> {
+			try (Stream<byte[]> registers = voterSketchRepository.streamWorldcupRegisters()) {
+				registers.forEach(bytes -> union.merge(HyperLogLog.fromBytes(bytes)));
+			}
+		});
+		// 아직 DB에 병합되지 않은 값도 포함
+		pending.forEach((key, entry) -> {
+			if (key.startsWith(WORLDCUP_KEY_PREFIX)) {
+				union.merge(entry.sketch);
+			}
+		});
+		return union.estimate();
+	}
+
+	/**
+	 * 삭제된 월드컵/후보의 추정값을 메모리에서 제거합니다. (DB 행은 WorldcupPurger가 정리)
+	 */
+	public void forgetWorldcup(Long worldcupId, List<Long> candidateIds) {
+		forget(WORLDCUP_KEY_PREFIX + worldcupId);
+		candidateIds.forEach(this::forgetCandidate);
+	}
+
+	public void forgetCandidate(Long candidateId) {
+		forget(CANDIDATE_KEY_PREFIX + candidateId);
+	}
+
+	private void forget(String key) {
+		pending.remove(key);
+		estimates.remove(key);
+	}
+
+	/**
+	 * 새로 더해진 값이 있는 스케치를 DB 레지스터에 병합합니다.
+	 * 💡 병합은 레지스터별 최댓값이므로 같은 내용을 여러 번 반영해도 안전합니다.
+	 *    실패하면 다음 주기에 다시 병합하고, 한 주기 동안 변경이 없던 스케치는 메모리에서 내려놓습니다.
+	 */
+	@Scheduled(fixedDelayString = "${worldcup.voter-sketch.flush-interval-ms:5000}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			Map<String, Snapshot> snapshots = new HashMap<>();
+			for (String key : new ArrayList<>(pending.keySet())) {
+				pending.computeIfPresent(key, (k, entry) -> {
+					if (!entry.dirty) {
+						return null;
+					}
+					entry.dirty = false;
+					snapshots.put(k, new Snapshot(entry.worldcupId, entry.sketch.toBytes()));
+					return entry;
+				});
+			}
+			if (snapshots.isEmpty()) {
+				return;
+			}
+
+			try {
+				Map<String, Long> merged = transactionTemplate.execute(status -> mergeIntoDatabase(snapshots));
+				estimates.putAll(merged);
+			} catch (RuntimeException e) {
+				snapshots.keySet().forEach(key -> pending.computeIfPresent(key, (k, entry) -> {
+					entry.dirty = true;
+					return entry;
+				}));
+				log.warn("고유 투표자 스케치 병합에 실패했습니다. 다음 주기에 다시 시도합니다: {}", e.getMessage());
+			}
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private Map<String, Long> mergeIntoDatabase(Map<String, Snapshot> snapshots) {
+		Map<String, VoterSketch> stored = new HashMap<>();
+		voterSketchRepository.findAllForUpdate(snapshots.keySet()).forEach(s -> stored.put(s.getSketchKey(), s));
+
+		Map<String, Long> merged = new HashMap<>();
+		List<VoterSketch> created = new ArrayList<>();
+		snapshots.forEach((key, snapshot) -> {
+			HyperLogLog sketch = HyperLogLog.fromBytes(snapshot.registers());
+			VoterSketch row = stored.get(key);
+			if (row != null) {
+				sketch.merge(HyperLogLog.fromBytes(row.getRegisters()));
+			}
+			long estimate = sketch.estimate();
+			if (row != null) {
+				row.update(sketch.toBytes(), estimate);
+			} else {
+				created.add(VoterSketch.builder()
+					.sketchKey(key)
+					.worldcupId(snapshot.worldcupId())
+					.registers(sketch.toBytes())
+					.estimate(estimate)
+					.build());
+			}
+			merged.put(key, estimate);
+		});
+		voterSketchRepository.saveAll(created);
+		return merged;
+	}
+
+	/**
+	 * 애플리케이션 종료 시 남아 있는 값을 모두 반영합니다.
+	 */
+	@PreDestroy
+	public void drain() {
+		flush();
+	}
+
+	private static final class Pending {
+		private final Long worldcupId;
+		private final HyperLogLog sketch = new HyperLogLog();
+		private boolean dirty; // pending.compute 안에서만 읽고 씀
+
+		private Pending(Long worldcupId) {
+			this.worldcupId = worldcupId;
+		}
+	}
+
+	private record Snapshot(Long worldcupId, byte[] registers) {
+	}
+}
@@ -0,0 +1,15 @@
+package com.codit.worldcup.application.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 존재하지 않거나 삭제된 월드컵을 요청했을 때 발생합니다. (404 Not Found)
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class WorldcupNotFoundException extends RuntimeException {
+
+	public WorldcupNotFoundException(String message) {
+		super(message);
+	}
+}
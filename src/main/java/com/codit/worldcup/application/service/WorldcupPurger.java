@@ -0,0 +1,193 @@
+package com.codit.worldcup.application.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.CommentRepository;
+import com.codit.worldcup.domain.repository.UserResultRepository;
+import com.codit.worldcup.domain.repository.VoterSketchRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 삭제 표시된 월드컵의 관련 데이터를 백그라운드에서 정리합니다.
+ * 💡 한 번에 chunk-size 건씩 별도 트랜잭션으로 삭제하므로 긴 트랜잭션/테이블 잠금이 생기지 않습니다.
+ *    정리 대상은 DB의 삭제 표시(deleted)로 판단하므로, 서버가 재시작되어도 남은 작업을 이어서 처리합니다.
+ */
+@Component
+public class WorldcupPurger {
+
+	private static final Logger log = LoggerFactory.getLogger(WorldcupPurger.class);
+
+	public enum Phase {
+		USER_RESULTS, COMMENTS, CANDIDATES, VOTER_SKETCHES, WORLDCUP, DONE
+	}
+
+	private final WorldcupRepository worldcupRepository;
+	private final CandidateRepository candidateRepository;
+	private final UserResultRepository userResultRepository;
+	private final CommentRepository commentRepository;
+	private final VoterSketchRepository voterSketchRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<Long, Progress> progresses = new ConcurrentHashMap<>();
+	// 💡 끝난 정리는 진행 중 목록에서 빼고 최근 history-size건만 남깁니다. (접근 순서가 아닌 완료 순서)
+	private final Map<Long, Progress> finished = new LinkedHashMap<>();
+	private final ReentrantLock finishedLock = new ReentrantLock();
+
+	@Value("${worldcup.purge.chunk-size:1000}")
+	private int chunkSize;
+
+	@Value("${worldcup.purge.history-size:100}")
+	private int historySize;
+
+	public WorldcupPurger(WorldcupRepository worldcupRepository, CandidateRepository candidateRepository,
+		UserResultRepository userResultRepository, CommentRepository commentRepository, VoterSketchRepository voterSketchRepository,
+		PlatformTransactionManager transactionManager) {
+		this.worldcupRepository = worldcupRepository;
+		this.candidateRepository = candidateRepository;
+		this.userResultRepository = userResultRepository;
+		this.commentRepository = commentRepository;
+		this.voterSketchRepository = voterSketchRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * 삭제 표시된 월드컵을 찾아 정리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${worldcup.purge.interval-ms:5000}")
+	public void purgePending() {
+		for (Long worldcupId : worldcupRepository.findDeletedIds()) {
+			try {
+				purge(worldcupId);
+			} catch (RuntimeException e) {
+				// 진행 상황은 DB에 남아 있으므로 다음 주기에 이어서 처리됩니다.
+				log.warn("월드컵 {} 정리 중 오류가 발생했습니다: {}", worldcupId, e.getMessage());
+			}
+		}
+	}
+
+	private void purge(Long worldcupId) {
+		Progress progress = progresses.computeIfAbsent(worldcupId, Progress::new);
+
+		progress.phase = Phase.USER_RESULTS;
+		deleteInChunks(() -> userResultRepository.deleteChunkByWorldcupId(worldcupId, chunkSize), progress.deletedUserResults);
+
+		progress.phase = Phase.COMMENTS;
+		deleteInChunks(() -> commentRepository.deleteChunkByWorldcupId(worldcupId, chunkSize), progress.deletedComments);
+
+		progress.phase = Phase.CANDIDATES;
+		deleteInChunks(() -> candidateRepository.deleteChunkByWorldcupId(worldcupId, chunkSize), progress.deletedCandidates);
+
+		progress.phase = Phase.VOTER_SKETCHES;
+		deleteInChunks(() -> voterSketchRepository.deleteChunkByWorldcupId(worldcupId, chunkSize), progress.deletedVoterSketches);
+
+		progress.phase = Phase.WORLDCUP;
+		transactionTemplate.executeWithoutResult(status -> worldcupRepository.deleteById(worldcupId));
+
+		progress.phase = Phase.DONE;
+		finish(progress);
+	}
+
+	private void finish(Progress progress) {
+		finishedLock.lock();
+		try {
+			finished.remove(progress.worldcupId);
+			finished.put(progress.worldcupId, progress);
+			Iterator<Long> oldest = finished.keySet().iterator();
+			while (finished.size() > historySize && oldest.hasNext()) {
+				oldest.next();
+				oldest.remove();
+			}
+		} finally {
+			finishedLock.unlock();
+		}
+		progresses.remove(progress.worldcupId, progress);
+	}
+
+	private void deleteInChunks(IntSupplier deleteChunk, AtomicLong counter) {
+		int deleted;
+		do {
+			deleted = transactionTemplate.execute(status -> deleteChunk.getAsInt());
+			counter.addAndGet(deleted);
+		} while (deleted >= chunkSize);
+	}
+
+	public List<Progress> progresses() {
+		List<Progress> result = new ArrayList<>(progresses.values());
+		finishedLock.lock();
+		try {
+			result.addAll(finished.values());
+		} finally {
+			finishedLock.unlock();
+		}
+		return result;
+	}
+
+	public Progress progressOf(Long worldcupId) {
+		Progress progress = progresses.get(worldcupId);
+		if (progress != null) {
+			return progress;
+		}
+		finishedLock.lock();
+		try {
+			return finished.get(worldcupId);
+		} finally {
+			finishedLock.unlock();
+		}
+	}
+
+	/**
+	 * 월드컵 하나의 정리 진행 상황 (현재 서버 기동 이후 기준)
+	 */
+	public static final class Progress {
+		private final Long worldcupId;
+		private volatile Phase phase = Phase.USER_RESULTS;
+		private final AtomicLong deletedUserResults = new AtomicLong();
+		private final AtomicLong deletedComments = new AtomicLong();
+		private final AtomicLong deletedCandidates = new AtomicLong();
+		private final AtomicLong deletedVoterSketches = new AtomicLong();
+
+		private Progress(Long worldcupId) {
+			this.worldcupId = worldcupId;
+		}
+
+		public Long getWorldcupId() {
+			return worldcupId;
+		}
+
+		public Phase getPhase() {
+			return phase;
+		}
+
+		public long getDeletedUserResults() {
+			return deletedUserResults.get();
+		}
+
+		public long getDeletedComments() {
+			return deletedComments.get();
+		}
+
+		public long getDeletedCandidates() {
+			return deletedCandidates.get();
+		}
+
+		public long getDeletedVoterSketches() {
+			return deletedVoterSketches.get();
+		}
+	}
+}
@@ -2,28 +2,43 @@ package com.codit.worldcup.application.service;
 
 import com.codit.worldcup.domain.entity.Candidate;
 import com.codit.worldcup.domain.entity.Comment;
-import com.codit.worldcup.domain.entity.User;
 import com.codit.worldcup.domain.entity.UserResult;
 import com.codit.worldcup.domain.entity.Worldcup;
 import com.codit.worldcup.domain.repository.CandidateRepository;
 import com.codit.worldcup.domain.repository.CommentRepository;
-import com.codit.worldcup.domain.repository.UserRepository;
 import com.codit.worldcup.domain.repository.UserResultRepository;
 import com.codit.worldcup.domain.repository.WorldcupRepository;
 import com.codit.worldcup.presentation.dto.CandidateRankResponse;
+import com.codit.worldcup.presentation.dto.CommentPageResponse;
 import com.codit.worldcup.presentation.dto.CommentResponse;
+import com.codit.worldcup.presentation.dto.TrendingWorldcupResponse;
 import com.codit.worldcup.presentation.dto.WorldcupCreateRequest;
 import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
 import com.codit.worldcup.presentation.dto.WorldcupListResponse;
 import com.codit.worldcup.presentation.dto.WorldcupResultResponse;
+import com.codit.worldcup.presentation.dto.WorldcupSearchResponse;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Comparator;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import tools.jackson.databind.ObjectMapper;
@@ -32,21 +47,47 @@ import tools.jackson.databind.ObjectMapper;
 @Transactional(readOnly = true)
 public class WorldcupService {
 
+	private static final int MAX_COMMENT_PAGE_SIZE = 100;
+	private static final int MAX_TRENDING_SIZE = 50;
+	private static final int MAX_SEARCH_PAGE_SIZE = 50;
+	// 💡 IN 절 하나에 담을 최대 ID 개수 (전체 랭킹처럼 후보가 아주 많아도 MySQL 바인딩 변수 한도를 넘지 않도록 나눠 조회)
+	private static final int IN_CLAUSE_CHUNK_SIZE = 500;
+
 	private final UserResultRepository userResultRepository;
 	private final WorldcupRepository worldcupRepository;
 	private final CandidateRepository candidateRepository; // 후보 저장을 위해 추가
-	private final UserRepository userRepository;
+	private final NicknameResolver nicknameResolver;
 	private final CommentRepository commentRepository;
 	private final S3Service s3Service;
+	private final ImageDerivativeService imageDerivativeService;
+	private final VoteAggregator voteAggregator;
+	private final Leaderboard leaderboard;
+	private final JsonResponseCache responseCache;
+	private final VoterSketches voterSketches;
+	private final TrendingTracker trendingTracker;
+	private final SearchIndex searchIndex;
+	private final RankBroadcaster rankBroadcaster;
+	private final SelectionDeduplicator selectionDeduplicator;
+	private final TransactionTemplate transactionTemplate;
 	private final ObjectMapper objectMapper;
 
-	public WorldcupService(UserResultRepository userResultRepository, WorldcupRepository worldcupRepository, CandidateRepository candidateRepository, UserRepository userRepository, CommentRepository commentRepository, S3Service s3Service) {
+	public WorldcupService(UserResultRepository userResultRepository, WorldcupRepository worldcupRepository, CandidateRepository candidateRepository, NicknameResolver nicknameResolver, CommentRepository commentRepository, S3Service s3Service, ImageDerivativeService imageDerivativeService, VoteAggregator voteAggregator, Leaderboard leaderboard, JsonResponseCache responseCache, VoterSketches voterSketches, TrendingTracker trendingTracker, SearchIndex searchIndex, RankBroadcaster rankBroadcaster, SelectionDeduplicator selectionDeduplicator, PlatformTransactionManager transactionManager) {
 		this.userResultRepository = userResultRepository;
 		this.worldcupRepository = worldcupRepository;
 		this.candidateRepository = candidateRepository;
-		this.userRepository = userRepository;
+		this.nicknameResolver = nicknameResolver;
 		this.commentRepository = commentRepository;
 		this.s3Service = s3Service;
+		this.imageDerivativeService = imageDerivativeService;
+		this.voteAggregator = voteAggregator;
+		this.leaderboard = leaderboard;
+		this.responseCache = responseCache;
+		this.voterSketches = voterSketches;
+		this.trendingTracker = trendingTracker;
+		this.searchIndex = searchIndex;
+		this.rankBroadcaster = rankBroadcaster;
+		this.selectionDeduplicator = selectionDeduplicator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
 		this.objectMapper = new ObjectMapper();
 	}
 
@@ -54,18 +95,62 @@ public class WorldcupService {
 	 * 월드컵 목록을 조회하여 DTO 형태로 반환합니다.
 	 */
 	public List<WorldcupListResponse> findAllWorldcups() {
-		List<Worldcup> worldcups = worldcupRepository.findAll(); // 모든 월드컵 조회
+		List<Worldcup> worldcups = worldcupRepository.findAllByDeletedFalse(); // 삭제되지 않은 모든 월드컵 조회
 
 		// Entity를 프론트엔드 응답용 DTO로 변환
 		return worldcups.stream()
 			.map(wc -> new WorldcupListResponse(
 				wc.getId(),
 				wc.getTitle(),
-				wc.getThumbnailUrl() // 썸네일 URL 반환
+				variantOrOriginal(wc.getThumbnailPreviewUrl(), wc.getThumbnailUrl()) // 목록용 축소 썸네일 (없으면 원본)
 			))
 			.collect(Collectors.toList());
 	}
 
+	/**
+	 * 최근 선택이 많은 월드컵을 인기 순으로 반환합니다.
+	 * 💡 순위는 TrendingTracker가 메모리에서 계산하고, DB는 상위 limit개의 제목/썸네일만 PK로 한 번 조회합니다.
+	 * @param window 집계 창 (예: 1h, 24h)
+	 */
+	public List<TrendingWorldcupResponse> findTrendingWorldcups(String window, int limit) {
+		if (limit <= 0 || limit > MAX_TRENDING_SIZE) {
+			throw new IllegalArgumentException("limit은 1 이상 " + MAX_TRENDING_SIZE + " 이하여야 합니다.");
+		}
+		List<TrendingTracker.Trend> trends = trendingTracker.top(window, limit);
+		if (trends.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Worldcup> worldcups = worldcupRepository.findAllById(trends.stream().map(TrendingTracker.Trend::worldcupId).toList())
+			.stream()
+			.filter(wc -> !wc.isDeleted())
+			.collect(Collectors.toMap(Worldcup::getId, wc -> wc));
+
+		return trends.stream()
+			.filter(trend -> worldcups.containsKey(trend.worldcupId()))
+			.map(trend -> {
+				Worldcup wc = worldcups.get(trend.worldcupId());
+				return new TrendingWorldcupResponse(wc.getId(), wc.getTitle(),
+					variantOrOriginal(wc.getThumbnailPreviewUrl(), wc.getThumbnailUrl()),
+					trend.selections(), trend.score());
+			})
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 제목/후보 이름으로 월드컵을 검색합니다. (메모리 색인만 사용, DB 조회 없음)
+	 */
+	public WorldcupSearchResponse searchWorldcups(String query, int offset, int limit) {
+		if (offset < 0 || limit <= 0 || limit > MAX_SEARCH_PAGE_SIZE) {
+			throw new IllegalArgumentException("유효하지 않은 페이지 범위입니다.");
+		}
+		SearchIndex.Page page = searchIndex.search(query, offset, limit);
+		List<WorldcupSearchResponse.HitDto> hits = page.hits().stream()
+			.map(hit -> new WorldcupSearchResponse.HitDto(hit.worldcupId(), hit.title(), hit.thumbnailUrl(), hit.matchedCandidates()))
+			.collect(Collectors.toList());
+		return new WorldcupSearchResponse(hits, page.total());
+	}
+
 	/**
 	 * 월드컵 정보를 저장하고 후보 목록을 함께 저장합니다.
 	 * 💡 [새로운 메서드] MultipartFile 파일 업로드 로직이 통합되었습니다.
@@ -75,7 +160,7 @@ public class WorldcupService {
 	 * @param candidateFiles 후보 이미지 파일 리스트
 	 * @return 생성된 월드컵 ID
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED) // 💡 업로드하는 동안 DB 커넥션을 잡고 있지 않습니다.
 	public Long createWorldcup(String title, MultipartFile thumbnailFile, String candidatesDataJson, List<MultipartFile> candidateFiles) {
 
 		// 1. JSON 파싱
@@ -83,14 +168,36 @@ public class WorldcupService {
 
 		// 💡 파일 리스트가 null일 경우 빈 리스트로 방어
 		if (candidateFiles == null) candidateFiles = List.of();
+		// 💡 이미지 없는 후보가 저장되지 않도록 업로드 전에 거절합니다.
+		if (candidateFiles.size() < request.getCandidates().size()) {
+			throw new IllegalArgumentException("후보 수만큼 이미지 파일이 필요합니다. (후보 " + request.getCandidates().size()
+				+ "개, 파일 " + candidateFiles.size() + "개)");
+		}
 
-		// 2. 썸네일 업로드
-		String thumbnailUrl = null;
-		if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-			thumbnailUrl = s3Service.uploadFile(thumbnailFile, "worldcup/thumbnails/");
+		// 2. 썸네일/후보 이미지 병렬 업로드 (트랜잭션 밖에서 수행)
+		List<S3Service.Upload> uploads = new ArrayList<>();
+		boolean hasThumbnail = thumbnailFile != null && !thumbnailFile.isEmpty();
+		if (hasThumbnail) {
+			uploads.add(new S3Service.Upload(thumbnailFile, "worldcup/thumbnails/"));
+		}
+		// 파일은 후보 순서대로 하나씩 대응됩니다. (남는 파일은 사용하지 않음)
+		for (int i = 0; i < request.getCandidates().size(); i++) {
+			uploads.add(new S3Service.Upload(candidateFiles.get(i), "worldcup/candidates/"));
 		}
+		List<S3Service.StoredFile> storedFiles = s3Service.uploadFiles(uploads);
+		List<String> uploadedUrls = storedFiles.stream().map(S3Service.StoredFile::url).collect(Collectors.toList());
 
-		// 3. 월드컵 저장
+		String thumbnailUrl = hasThumbnail ? uploadedUrls.get(0) : null;
+		List<String> candidateImageUrls = uploadedUrls.subList(hasThumbnail ? 1 : 0, uploadedUrls.size());
+
+		// 3. 업로드가 모두 끝난 뒤 짧은 트랜잭션으로 월드컵/후보 저장
+		// 💡 DB 저장에 실패해도 방금 올린 파일은 지우지 않습니다. 같은 내용을 올린 다른 요청이 같은 키를 참조할 수 있으므로,
+		//    참조되지 않는 객체는 OrphanImageSweeper가 DB를 확인한 뒤 정리합니다.
+		return transactionTemplate.execute(status -> saveNewWorldcup(title, thumbnailUrl, request, candidateImageUrls));
+	}
+
+	private Long saveNewWorldcup(String title, String thumbnailUrl, WorldcupCreateRequest request, List<String> candidateImageUrls) {
+		// 월드컵 저장
 		Worldcup worldcup = Worldcup.builder()
 			.title(title)
 			.thumbnailUrl(thumbnailUrl)
@@ -98,39 +205,40 @@ public class WorldcupService {
 		worldcup = worldcupRepository.save(worldcup);
 		Long worldcupId = worldcup.getId();
 
-		// 4. 후보 저장 (💡 핵심 수정: 파일 인덱스를 별도로 관리)
-		int fileIndex = 0; // 파일 리스트를 가리키는 커서
-
-		for (WorldcupCreateRequest.CandidateDto dto : request.getCandidates()) {
-			String imageUrl = "";
-
-			// 파일이 남아있다면 하나 꺼내서 업로드
-			if (fileIndex < candidateFiles.size()) {
-				MultipartFile file = candidateFiles.get(fileIndex++);
-				imageUrl = s3Service.uploadFile(file, "worldcup/candidates/");
-			} else {
-				// ⚠️ 파일이 부족한 경우 처리 (기본 이미지 혹은 예외)
-				// 여기서는 로그를 남기거나, 빈 문자열로 진행합니다.
-				System.out.println("경고: 후보 데이터보다 파일이 부족합니다. 이름: " + dto.getName());
-			}
-
-			Candidate candidate = Candidate.builder()
+		// 후보 저장 (업로드된 이미지 URL을 순서대로 대응)
+		// 💡 후보 ID는 미리 발급되므로 saveAll의 INSERT가 JDBC 배치로 묶입니다.
+		List<Candidate> newCandidates = new ArrayList<>();
+		List<WorldcupCreateRequest.CandidateDto> candidateDtos = request.getCandidates();
+		for (int i = 0; i < candidateDtos.size(); i++) {
+			newCandidates.add(Candidate.builder()
 				.worldcupId(worldcupId)
-				.name(dto.getName())
-				.imageUrl(imageUrl)
-				.build();
-			candidateRepository.save(candidate);
+				.name(candidateDtos.get(i).getName())
+				.imageUrl(candidateImageUrls.get(i)) // createWorldcup에서 후보 수만큼 파일이 있는지 확인함
+				.build());
 		}
-
+		List<Candidate> savedCandidates = candidateRepository.saveAll(newCandidates);
+		Worldcup savedWorldcup = worldcup;
+
+		afterCommit(() -> {
+			responseCache.invalidateWorldcup(worldcupId);
+			leaderboard.putAll(savedCandidates);
+			searchIndex.put(savedWorldcup, savedCandidates.stream().map(Candidate::getName).toList());
+			requestImageDerivatives(thumbnailUrl, candidateImageUrls);
+		});
 		return worldcupId;
-
 	}
 
 	@Transactional(readOnly = true)
 	public WorldcupDetailResponse findWorldcupDetail(Long worldcupId) {
+		// 💡 대진 화면에는 대진 크기로 축소한 이미지를 내려줍니다.
+		return toDetailResponse(worldcupId, true);
+	}
+
+	private WorldcupDetailResponse toDetailResponse(Long worldcupId, boolean useDerivedImages) {
 
 		// 1. 월드컵 기본 정보 조회
 		Worldcup worldcup = worldcupRepository.findById(worldcupId)
+			.filter(wc -> !wc.isDeleted())
 			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 월드컵 ID입니다: " + worldcupId));
 
 		// 2. 해당 월드컵의 모든 후보 목록 조회
@@ -146,46 +254,112 @@ public class WorldcupService {
 			.map(c -> new WorldcupDetailResponse.CandidateDto(
 				c.getId(),
 				c.getName(),
-				c.getImageUrl()))
+				useDerivedImages ? variantOrOriginal(c.getBracketImageUrl(), c.getImageUrl()) : c.getImageUrl()))
 			.collect(Collectors.toList());
 
 		return new WorldcupDetailResponse(worldcup.getId(), worldcup.getTitle(), worldcup.getThumbnailUrl(), candidateDtos);
 	}
 
+	// 파생 이미지가 준비되었으면 그 URL을, 아니면 원본 URL을 사용합니다.
+	private static String variantOrOriginal(String variantUrl, String originalUrl) {
+		return (variantUrl != null) ? variantUrl : originalUrl;
+	}
+
 	/**
 	 * 사용자의 선택을 기록하고 통계를 업데이트합니다.
 	 * @param worldcupId 현재 월드컵 ID
 	 * @param winnerId 선택된 후보 ID
 	 * @param loserId 탈락된 후보 ID
 	 * @param round 현재 진행 라운드 수
+	 * @param idempotencyKey 멱등 키 (null이면 중복 확인 없이 기록)
+	 * @return 기록했으면 true, 이미 기록된 요청의 재전송이라 무시했으면 false
 	 */
-	@Transactional
-	public void recordSelection(Long worldcupId, Long winnerId, Long loserId, int round, Long userId) {
+	@Transactional(propagation = Propagation.SUPPORTS) // 💡 결승이 아니면 커넥션을 잡지 않습니다.
+	public boolean recordSelection(Long worldcupId, Long winnerId, Long loserId, int round, Long userId, String idempotencyKey) {
+		validateWinner(worldcupId, winnerId);
+		if (idempotencyKey == null) {
+			applySelectionRequest(worldcupId, winnerId, round, userId);
+			return true;
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > SelectionDeduplicator.MAX_KEY_LENGTH) {
+			throw new IllegalArgumentException("멱등 키는 1자 이상 " + SelectionDeduplicator.MAX_KEY_LENGTH + "자 이하여야 합니다.");
+		}
 
-		// 1. 선택된 후보의 전체 클릭 수 증가 (랭킹 조건 2)
-		Candidate winner = candidateRepository.findById(winnerId)
-			.orElseThrow(() -> new IllegalArgumentException("Winner ID를 찾을 수 없습니다."));
-		winner.incrementTotalSelectionCount(); // Candidate.java에 구현된 메서드 사용
-		candidateRepository.save(winner);
+		// 💡 같은 키라도 다른 월드컵/사용자의 요청과 섞이지 않도록 범위를 붙입니다.
+		String scopedKey = worldcupId + ":" + userId + ":" + idempotencyKey;
+		if (!selectionDeduplicator.tryAcquire(scopedKey)) {
+			return false; // 중복: DB와 집계를 건드리지 않고 성공으로 응답
+		}
+		try {
+			applySelectionRequest(worldcupId, winnerId, round, userId);
+		} catch (RuntimeException e) {
+			selectionDeduplicator.release(scopedKey);
+			throw e;
+		}
+		selectionDeduplicator.complete(scopedKey);
+		return true;
+	}
+
+	// 💡 DB 대신 메모리 랭킹으로 후보가 이 월드컵에 속하는지 확인합니다. (없는 ID로 집계/인기 순위가 오염되지 않도록)
+	private void validateWinner(Long worldcupId, Long winnerId) {
+		Leaderboard.RankEntry winner = winnerId == null ? null : leaderboard.entry(winnerId);
+		if (winner == null || !winner.worldcupId().equals(worldcupId)) {
+			throw new IllegalArgumentException("Winner ID를 찾을 수 없습니다.");
+		}
+	}
 
-		// 2. 최종 라운드(결승)인 경우 처리 (프론트에서 round=2 로 넘어왔다고 가정)
+	private void applySelectionRequest(Long worldcupId, Long winnerId, int round, Long userId) {
+		// 1. 사용자 최종 결과 기록 (랭킹 조건 4의 닉네임 조회를 위해 사용)
 		if (round == 2) {
-			// 2-1. 1등으로 뽑힌 횟수 증가 (랭킹 조건 1)
-			winner.incrementWinCount();
-			candidateRepository.save(winner);
+			saveUserResult(worldcupId, winnerId, userId);
+		}
 
-			// 2-2. 사용자 최종 결과 기록 (랭킹 조건 4의 닉네임 조회를 위해 사용)
-			// ⚠️ 주의: 현재 로직에는 userId가 없으므로, 프론트에서 보내도록 수정하거나,
-			//         여기서는 임시로 userId를 1로 가정합니다. (실제 구현 시 로그인 정보를 사용해야 함)
-			//Long dummyUserId = 1L; // 💡 실제 구현 시 로그인 세션/토큰에서 가져와야 함.
+		// 2. 선택 집계 (최종 라운드(결승)인 경우 1등 횟수도 증가, 프론트에서 round=2 로 넘어왔다고 가정)
+		// 💡 메모리 집계는 롤백되지 않으므로 결과 행이 커밋된 뒤에만 반영합니다. (실패한 요청을 재시도해도 두 번 세지 않음)
+		afterCommit(() -> applySelection(worldcupId, winnerId, round == 2));
+	}
 
-			UserResult userResult = UserResult.builder()
-				.userId(userId)
-				.worldcupId(worldcupId)
-				.winnerId(winnerId)
-				.build();
-			userResultRepository.save(userResult);
+	/**
+	 * 서버에서 검증을 마친 토너먼트 한 판의 선택 전체를 한 번에 기록합니다.
+	 * @param picks 대결 순서대로의 승자 ID (마지막 원소가 최종 우승자)
+	 */
+	@Transactional
+	public void recordTournament(Long worldcupId, long[] picks, Long userId) {
+		// 💡 세션은 월드컵이 삭제되기 전에 시작되었을 수 있으므로 기록 직전에 다시 확인합니다.
+		//    WorldcupPurger가 결과 행을 정리한 뒤에 새 행이 들어가 고아로 남지 않도록 삭제 표시와 잠금으로 순서를 맞춥니다.
+		if (worldcupRepository.findActiveByIdForShare(worldcupId).isEmpty()) {
+			throw new IllegalArgumentException("존재하지 않는 월드컵 ID입니다: " + worldcupId);
 		}
+		saveUserResult(worldcupId, picks[picks.length - 1], userId);
+		afterCommit(() -> {
+			for (int i = 0; i < picks.length; i++) {
+				applySelection(worldcupId, picks[i], i == picks.length - 1);
+			}
+		});
+	}
+
+	// 💡 Candidate를 조회/저장하지 않고 VoteAggregator에 누적합니다. (주기적으로 배치 UPDATE, 커밋 후 호출)
+	private void applySelection(Long worldcupId, Long winnerId, boolean finalRound) {
+		// 선택된 후보의 전체 클릭 수 증가 (랭킹 조건 2)
+		voteAggregator.recordSelection(winnerId);
+		if (finalRound) {
+			// 1등으로 뽑힌 횟수 증가 (랭킹 조건 1)
+			voteAggregator.recordWin(winnerId);
+		}
+		leaderboard.increment(winnerId, finalRound);
+		trendingTracker.record(worldcupId);
+		rankBroadcaster.markChanged(worldcupId);
+	}
+
+	private void saveUserResult(Long worldcupId, Long winnerId, Long userId) {
+		UserResult userResult = UserResult.builder()
+			.userId(userId)
+			.worldcupId(worldcupId)
+			.winnerId(winnerId)
+			.build();
+		userResultRepository.save(userResult);
+		// 고유 투표자 수 스케치는 결과 행이 커밋된 경우에만 반영
+		afterCommit(() -> voterSketches.recordWinner(worldcupId, winnerId, userId));
 	}
 
 	/**
@@ -196,33 +370,18 @@ public class WorldcupService {
 		// 1. 우승 후보 정보 조회 (URL에서 받은 ID 사용)
 		Candidate finalWinner = candidateRepository.findById(winnerId)
 			.orElseThrow(() -> new IllegalArgumentException("최종 우승자 ID를 찾을 수 없습니다."));
-		// 2. 해당 우승 후보를 선택한 모든 사용자의 최종 결과 기록 조회 (기존 로직 유지)
-		List<UserResult> winnerResults = userResultRepository.findAllByWorldcupId(worldcupId).stream()
-			.filter(r -> r.getWinnerId().equals(finalWinner.getId()))
-			.collect(Collectors.toList());
+		// 2. 해당 우승 후보를 1등으로 뽑은 사용자들의 닉네임 조회 (랭킹 조건 4)
+		List<String> topWinnerNicknames = findWinnerNicknames(List.of(finalWinner.getId()))
+			.getOrDefault(finalWinner.getId(), List.of());
 
-		// 3. 사용자 ID 목록을 추출하여 닉네임 조회 (랭킹 조건 4)
-		List<Long> winnerUserIds = winnerResults.stream()
-			.map(UserResult::getUserId)
-			.distinct() // 중복 사용자 제거
-			.collect(Collectors.toList());
-
-		List<String> topWinnerNicknames = userRepository.findAllById(winnerUserIds).stream()
-			.map(user -> {
-				// 관리자 닉네임은 특수하게 표시하도록 프론트엔드와 약속할 수 있습니다.
-				return user.getNickname().equals("admin") ? "관리자" : user.getNickname();
-			})
-			.collect(Collectors.toList());
-
-
-		// 4. 응답 DTO 생성
+		// 3. 응답 DTO 생성
 		WorldcupResultResponse.WinnerCandidateDto winnerDto = new WorldcupResultResponse.WinnerCandidateDto(
 			finalWinner.getId(),
 			finalWinner.getName(),
-			finalWinner.getImageUrl()
+			variantOrOriginal(finalWinner.getFullImageUrl(), finalWinner.getImageUrl())
 		);
 
-		return new WorldcupResultResponse(winnerDto, topWinnerNicknames);
+		return new WorldcupResultResponse(winnerDto, voterSketches.distinctWinners(finalWinner.getId()), topWinnerNicknames);
 	}
 
 	/**
@@ -232,11 +391,13 @@ public class WorldcupService {
 	public List<CommentResponse> findCommentsByWorldcup(Long worldcupId) {
 		List<Comment> comments = commentRepository.findAllByWorldcupIdOrderByCreatedAtDesc(worldcupId);
 
+		// 💡 작성자 닉네임은 댓글마다 조회하지 않고 한 번에 조회합니다.
+		Map<Long, String> nicknames = nicknameResolver.resolve(comments.stream()
+			.map(Comment::getUserId)
+			.collect(Collectors.toSet()));
+
 		return comments.stream().map(comment -> {
-			// 💡 닉네임 조회가 필요합니다.
-			String nickname = userRepository.findById(comment.getUserId())
-				.map(User::getNickname)
-				.orElse("탈퇴한 사용자");
+			String nickname = nicknames.getOrDefault(comment.getUserId(), "탈퇴한 사용자");
 
 			return new CommentResponse(
 				comment.getId(),
@@ -247,6 +408,70 @@ public class WorldcupService {
 		}).collect(Collectors.toList());
 	}
 
+	/**
+	 * 특정 월드컵의 댓글을 커서 기반으로 한 페이지씩 조회합니다.
+	 * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+	 * @param size 페이지 크기
+	 */
+	@Transactional(readOnly = true)
+	public CommentPageResponse findCommentPage(Long worldcupId, String cursor, int size) {
+		if (size <= 0 || size > MAX_COMMENT_PAGE_SIZE) {
+			throw new IllegalArgumentException("페이지 크기는 1 ~ " + MAX_COMMENT_PAGE_SIZE + " 사이여야 합니다.");
+		}
+
+		// 💡 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+		Limit limit = Limit.of(size + 1);
+		List<Comment> comments;
+		if (cursor == null || cursor.isEmpty()) {
+			comments = commentRepository.findByWorldcupIdOrderByCreatedAtDescIdDesc(worldcupId, limit);
+		} else {
+			CommentCursor decoded = CommentCursor.decode(cursor);
+			comments = commentRepository.findPageAfter(worldcupId, decoded.createdAt(), decoded.id(), limit);
+		}
+
+		String nextCursor = null;
+		if (comments.size() > size) {
+			comments = comments.subList(0, size);
+			Comment last = comments.get(size - 1);
+			nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+		}
+
+		Map<Long, String> nicknames = nicknameResolver.resolve(comments.stream()
+			.map(Comment::getUserId)
+			.collect(Collectors.toSet()));
+
+		List<CommentResponse> responses = comments.stream()
+			.map(comment -> new CommentResponse(
+				comment.getId(),
+				nicknames.getOrDefault(comment.getUserId(), "탈퇴한 사용자"),
+				comment.getContent(),
+				comment.getCreatedAt()))
+			.collect(Collectors.toList());
+
+		return new CommentPageResponse(responses, nextCursor);
+	}
+
+	/**
+	 * 댓글 페이지 커서 (createdAt, id). 클라이언트에는 불투명한 문자열로 전달됩니다.
+	 */
+	private record CommentCursor(LocalDateTime createdAt, Long id) {
+
+		String encode() {
+			String raw = createdAt + "|" + id;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+		}
+
+		static CommentCursor decode(String cursor) {
+			try {
+				String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+				int separator = raw.lastIndexOf('|');
+				return new CommentCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("유효하지 않은 커서입니다: " + cursor);
+			}
+		}
+	}
+
 	/**
 	 * 댓글을 DB에 저장합니다.
 	 */
@@ -261,124 +486,195 @@ public class WorldcupService {
 	}
 
 	/**
-	 * 특정 월드컵의 랭킹을 계산하고 정렬하여 반환합니다.
+	 * 특정 월드컵의 랭킹을 정렬된 순서로 반환합니다.
+	 * 💡 매번 후보 전체를 조회/정렬하지 않고 Leaderboard에 유지된 순위에서 필요한 구간만 꺼냅니다.
+	 * @param worldcupId 월드컵 ID ('all'이면 전체 통합 랭킹)
+	 * @param offset 건너뛸 순위 수
+	 * @param limit 반환할 최대 개수 (null이면 전체)
 	 */
 	@Transactional(readOnly = true)
-	public List<CandidateRankResponse> calculateAndGetRank(String worldcupId) {
+	public List<CandidateRankResponse> calculateAndGetRank(String worldcupId, int offset, Integer limit) {
 
-		// 1. 후보 조회 로직 (기존과 동일)
-		List<Candidate> candidates;
+		if (offset < 0 || (limit != null && limit <= 0)) {
+			throw new IllegalArgumentException("유효하지 않은 페이지 범위입니다.");
+		}
+		int pageSize = (limit == null) ? Integer.MAX_VALUE : limit;
+
+		// 1. 랭킹 구간 조회
+		List<Leaderboard.RankEntry> entries;
 		if (worldcupId.equalsIgnoreCase("all")) {
-			candidates = candidateRepository.findAll();
+			entries = leaderboard.page(null, offset, pageSize);
 		} else {
 			try {
 				Long id = Long.parseLong(worldcupId);
-				candidates = candidateRepository.findAllByWorldcupId(id);
+				entries = leaderboard.page(id, offset, pageSize);
 			} catch (NumberFormatException e) {
 				throw new IllegalArgumentException("유효하지 않은 월드컵 ID 형식입니다: " + worldcupId);
 			}
 		}
 
-		// 💡 [수정됨] 정렬 로직
-		// Comparator.reverseOrder()를 사용하여 해당 필드만 명확하게 내림차순으로 지정합니다.
-		Comparator<Candidate> rankComparator = Comparator
-			// 1. 1등 횟수 (WinCount): 내림차순 (큰 수가 위로)
-			.comparing(Candidate::getWinCount, Comparator.reverseOrder())
-			// 2. 총 클릭 수 (TotalSelectionCount): 내림차순 (큰 수가 위로)
-			.thenComparing(Candidate::getTotalSelectionCount, Comparator.reverseOrder())
-			// 3. 후보 이름 (Name): 오름차순 (가나다/abc 순)
-			.thenComparing(Candidate::getName);
-
-		// 정렬 수행
-		candidates.sort(rankComparator);
-
-		// 3. 응답 DTO 변환 로직 (기존과 동일)
-		return candidates.stream().map(candidate -> {
-			List<String> topWinnerNicknames = userResultRepository.findAllByWorldcupId(candidate.getWorldcupId()).stream()
-				.filter(r -> r.getWinnerId().equals(candidate.getId()))
-				.map(UserResult::getUserId)
-				.distinct()
-				.flatMap(userId -> userRepository.findById(userId).stream())
-				.map(user -> user.getNickname().equals("admin") ? "관리자" : user.getNickname())
-				.collect(Collectors.toList());
-
-			return new CandidateRankResponse(
-				candidate.getId(),
-				candidate.getName(),
-				candidate.getWinCount(),
-				candidate.getTotalSelectionCount(),
-				topWinnerNicknames
-			);
-		}).collect(Collectors.toList());
+		// 2. 후보별 1등 투표자 닉네임을 한 번에 조회
+		Map<Long, List<String>> winnerNicknames = findWinnerNicknames(entries.stream()
+			.map(Leaderboard.RankEntry::candidateId)
+			.collect(Collectors.toList()));
+
+		// 3. 응답 DTO 변환
+		return entries.stream().map(entry -> new CandidateRankResponse(
+			entry.candidateId(),
+			entry.name(),
+			entry.winCount(),
+			entry.totalSelectionCount(),
+			voterSketches.distinctWinners(entry.candidateId()),
+			winnerNicknames.getOrDefault(entry.candidateId(), List.of())
+		)).collect(Collectors.toList());
+	}
+
+	/**
+	 * 월드컵을 끝까지 진행한 고유 사용자 수(근사값)를 반환합니다. ("all"이면 전체 월드컵 기준)
+	 */
+	public long countDistinctVoters(String worldcupId) {
+		if (worldcupId.equalsIgnoreCase("all")) {
+			return voterSketches.distinctVotersOfAll();
+		}
+		try {
+			return voterSketches.distinctVoters(Long.parseLong(worldcupId));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("유효하지 않은 월드컵 ID 형식입니다: " + worldcupId);
+		}
+	}
+
+	/**
+	 * 후보별로 해당 후보를 1등으로 뽑은 사용자들의 표시용 닉네임 목록을 조회합니다.
+	 * 💡 후보 수와 관계없이 user_result 조회 1회 + (캐시 미스 시) user 조회 1회로 끝납니다.
+	 */
+	private Map<Long, List<String>> findWinnerNicknames(List<Long> candidateIds) {
+		if (candidateIds.isEmpty()) {
+			return Map.of();
+		}
+		List<UserResultRepository.WinnerVoter> voters = new ArrayList<>();
+		for (int from = 0; from < candidateIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+			voters.addAll(userResultRepository.findWinnerVotersByWinnerIdIn(
+				candidateIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, candidateIds.size()))));
+		}
+		Map<Long, String> nicknames = nicknameResolver.resolve(voters.stream()
+			.map(UserResultRepository.WinnerVoter::getUserId)
+			.collect(Collectors.toSet()));
+
+		Map<Long, List<String>> result = new HashMap<>();
+		for (UserResultRepository.WinnerVoter voter : voters) {
+			String nickname = nicknames.get(voter.getUserId());
+			if (nickname != null) {
+				result.computeIfAbsent(voter.getWinnerId(), id -> new ArrayList<>()).add(nickname);
+			}
+		}
+		return result;
 	}
 
 	/**
 	 * 특정 월드컵과 관련된 모든 데이터를 삭제합니다. (Admin 전용)
+	 * 💡 월드컵은 즉시 삭제 표시만 하여 목록에서 숨기고, 후보/결과/댓글의 실제 삭제는
+	 *    WorldcupPurger가 백그라운드에서 일정 크기씩 나누어 처리합니다.
 	 */
 	@Transactional // DB 변경이 일어나므로 @Transactional 명시
 	public void deleteWorldcup(Long worldcupId) {
-		// 1. 월드컵 존재 확인 (필요 시)
-		if (!worldcupRepository.existsById(worldcupId)) {
-			throw new IllegalArgumentException("존재하지 않는 월드컵 ID입니다: " + worldcupId);
-		}
-
-		// 2. 관련 데이터 삭제
-		// 💡 deleteAllBy... 메서드는 Repository 인터페이스에 정의되어 있어야 합니다.
-		candidateRepository.deleteAllByWorldcupId(worldcupId);
-		userResultRepository.deleteAllByWorldcupId(worldcupId);
-		commentRepository.deleteAllByWorldcupId(worldcupId);
+		// 1. 월드컵 존재 확인
+		Worldcup worldcup = worldcupRepository.findById(worldcupId)
+			.filter(wc -> !wc.isDeleted())
+			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 월드컵 ID입니다: " + worldcupId));
 
-		// 3. 월드컵 자체 삭제
-		worldcupRepository.deleteById(worldcupId);
+		// 2. 삭제 표시 (관련 데이터와 월드컵 행은 WorldcupPurger가 정리)
+		worldcup.markDeleted();
+		List<Long> candidateIds = candidateRepository.findIdsByWorldcupId(worldcupId);
+
+		afterCommit(() -> {
+			responseCache.invalidateWorldcup(worldcupId);
+			leaderboard.removeWorldcup(worldcupId);
+			voterSketches.forgetWorldcup(worldcupId, candidateIds);
+			trendingTracker.forget(worldcupId);
+			searchIndex.remove(worldcupId);
+		});
 	}
 
 	// 💡 1. 수정 폼에 데이터 로딩을 위한 서비스 메서드 (기존 findWorldcupDetail 재활용 가능)
 	@Transactional(readOnly = true)
 	public WorldcupDetailResponse findWorldcupDetailForEdit(Long worldcupId) {
 		// 기존의 findWorldcupDetail(Long worldcupId) 로직을 재활용합니다.
-		// WorldcupDetailResponse DTO가 후보 ID, 이름, URL을 모두 포함하도록 이미 설계되어 있습니다.
-		return findWorldcupDetail(worldcupId);
+		// 💡 수정 폼은 imagePath를 그대로 다시 보내므로 파생 이미지가 아닌 원본 URL을 내려줍니다.
+		return toDetailResponse(worldcupId, false);
 	}
 
 	// 💡 2. 수정 데이터 반영 서비스 메서드
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED) // 💡 업로드하는 동안 DB 커넥션을 잡고 있지 않습니다.
 	public void updateWorldcup(Long worldcupId, String title, MultipartFile thumbnailFile, String candidatesDataJson, List<MultipartFile> candidateFiles) {
 
+		// 💡 삭제 표시된 월드컵은 정리 중이므로 수정할 수 없습니다.
+		if (!worldcupRepository.existsByIdAndDeletedFalse(worldcupId)) {
+			throw new IllegalArgumentException("수정할 월드컵을 찾을 수 없습니다.");
+		}
+
+		// 1. 후보 데이터 JSON 파싱
+		WorldcupCreateRequest request = objectMapper.readValue(candidatesDataJson, WorldcupCreateRequest.class);
+		List<WorldcupCreateRequest.CandidateDto> candidateDtos = request.getCandidates();
+
+		// 2. 새로 올릴 파일 결정
+		List<S3Service.Upload> uploads = new ArrayList<>();
+		boolean hasThumbnail = thumbnailFile != null && !thumbnailFile.isEmpty();
+		if (hasThumbnail) {
+			uploads.add(new S3Service.Upload(thumbnailFile, "worldcup/thumbnails/"));
+		}
+
+		// 💡 프론트엔드에서 파일 변경 시 imagePath를 비워서 보낸다고 가정하고,
+		//    그런 후보마다 candidateFiles 리스트에서 순서대로 하나씩 꺼내 씁니다.
+		List<Integer> uploadTargets = new ArrayList<>(); // 새 파일을 받을 후보의 인덱스
+		int fileListIndex = 0;
+		for (int i = 0; i < candidateDtos.size(); i++) {
+			WorldcupCreateRequest.CandidateDto dto = candidateDtos.get(i);
+			boolean isNewFile = (dto.getImagePath() == null || dto.getImagePath().isEmpty());
+			if (isNewFile && fileListIndex < candidateFiles.size()) {
+				uploads.add(new S3Service.Upload(candidateFiles.get(fileListIndex++), "worldcup/candidates/"));
+				uploadTargets.add(i);
+			}
+		}
+
+		// 3. 병렬 업로드 (트랜잭션 밖에서 수행)
+		List<S3Service.StoredFile> storedFiles = s3Service.uploadFiles(uploads);
+		List<String> uploadedUrls = storedFiles.stream().map(S3Service.StoredFile::url).collect(Collectors.toList());
+
+		String newThumbnailUrl = hasThumbnail ? uploadedUrls.get(0) : null;
+		String[] newImageUrls = new String[candidateDtos.size()];
+		for (int i = 0; i < uploadTargets.size(); i++) {
+			newImageUrls[uploadTargets.get(i)] = uploadedUrls.get(i + (hasThumbnail ? 1 : 0));
+		}
+
+		// 4. 업로드가 모두 끝난 뒤 짧은 트랜잭션으로 DB 반영 (실패 시 올린 파일은 OrphanImageSweeper가 정리)
+		transactionTemplate.executeWithoutResult(status ->
+			applyWorldcupUpdate(worldcupId, title, newThumbnailUrl, candidateDtos, newImageUrls));
+	}
+
+	private void applyWorldcupUpdate(Long worldcupId, String title, String newThumbnailUrl,
+		List<WorldcupCreateRequest.CandidateDto> candidateDtos, String[] newImageUrls) {
+
 		// 1. Worldcup 기본 정보 수정
 		Worldcup worldcup = worldcupRepository.findById(worldcupId)
+			.filter(wc -> !wc.isDeleted())
 			.orElseThrow(() -> new IllegalArgumentException("수정할 월드컵을 찾을 수 없습니다."));
 
-		// 썸네일 파일이 새로 들어왔으면 업로드 후 URL 갱신
-		String thumbnailUrl = worldcup.getThumbnailUrl();
-		if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-			thumbnailUrl = s3Service.uploadFile(thumbnailFile, "worldcup/thumbnails/");
-		}
-
+		// 썸네일 파일이 새로 들어왔으면 URL 갱신
+		String thumbnailUrl = (newThumbnailUrl != null) ? newThumbnailUrl : worldcup.getThumbnailUrl();
 		worldcup.update(title, thumbnailUrl);
 		worldcupRepository.save(worldcup);
 
-		// 2. 후보 데이터 JSON 파싱
-		WorldcupCreateRequest request = objectMapper.readValue(candidatesDataJson, WorldcupCreateRequest.class);
-
-		// 💡 파일 처리를 위한 인덱스 (파일 리스트에서 하나씩 꺼내 쓰기 위함)
-		int fileListIndex = 0;
-
-		// 3. 기존 후보 목록 조회 (삭제 처리용)
-		List<Candidate> existingCandidates = candidateRepository.findAllByWorldcupId(worldcupId);
-		List<Long> requestedIds = request.getCandidates().stream()
-			.map(c -> {
-				try { return Long.parseLong(c.getId()); } catch (Exception e) { return null; }
-			})
-			.filter(id -> id != null)
-			.collect(Collectors.toList());
+		// 2. 기존 후보 목록을 한 번만 조회하고, 변경 사항은 메모리에서 계산합니다.
+		Map<Long, Candidate> existingById = candidateRepository.findAllByWorldcupId(worldcupId).stream()
+			.collect(Collectors.toMap(Candidate::getId, c -> c));
 
-		// 3-1. 삭제할 후보 처리
-		existingCandidates.stream()
-			.filter(c -> !requestedIds.contains(c.getId()))
-			.forEach(candidateRepository::delete);
+		List<Candidate> newCandidates = new ArrayList<>();
+		List<Candidate> updatedCandidates = new ArrayList<>();
+		Set<Long> requestedIds = new HashSet<>();
 
-		// 4. 후보 추가 및 수정 루프
-		for (WorldcupCreateRequest.CandidateDto dto : request.getCandidates()) {
+		// 3. 후보 추가 및 수정 분류
+		for (int i = 0; i < candidateDtos.size(); i++) {
+			WorldcupCreateRequest.CandidateDto dto = candidateDtos.get(i);
 			Long candidateId = null;
 			try {
 				if (dto.getId() != null && !dto.getId().isEmpty() && !dto.getId().equals("undefined")) {
@@ -386,43 +682,73 @@ public class WorldcupService {
 				}
 			} catch (NumberFormatException e) { /* 신규 후보 */ }
 
-			// 이미지 URL 결정 로직
-			String finalImageUrl = dto.getImagePath(); // 기본적으로 프론트에서 보낸 기존 URL 유지
-
-			// 💡 프론트엔드에서 "이 후보는 이미지가 변경되었습니다"라고 보낸 경우 (약속된 플래그 확인 필요, 여기서는 imagePath가 비었거나 파일을 보냈다고 가정)
-			// 하지만 더 확실한 방법은, 프론트에서 파일을 보냈다면 candidateFiles 리스트를 소비하는 것입니다.
-			// 여기서는 "새로운 파일이 필요한 경우"를 dto의 상태나 별도 플래그로 판단해야 하지만,
-			// 간단하게 구현하기 위해: dto.getImagePath()가 비어있거나 'NEW' 마킹이 있으면 파일 리스트에서 꺼낸다고 가정합니다.
-
-			// 💡 더 강력한 로직: 프론트엔드에서 파일 변경 시 imagePath를 비워서 보낸다고 가정
-			boolean isNewFile = (dto.getImagePath() == null || dto.getImagePath().isEmpty());
-
-			if (isNewFile) {
-				if (fileListIndex < candidateFiles.size()) {
-					MultipartFile file = candidateFiles.get(fileListIndex++);
-					finalImageUrl = s3Service.uploadFile(file, "worldcup/candidates/");
-				} else {
-					// 파일이 부족한 경우 (예외처리 혹은 무시)
-				}
-			}
+			// 이미지 URL 결정 로직: 새 파일이 올라갔으면 그 URL, 아니면 프론트에서 보낸 기존 URL 유지
+			String finalImageUrl = (newImageUrls[i] != null) ? newImageUrls[i] : dto.getImagePath();
 
 			if (candidateId == null) {
 				// 신규 추가
-				Candidate newCandidate = Candidate.builder()
+				newCandidates.add(Candidate.builder()
 					.worldcupId(worldcupId)
 					.name(dto.getName())
 					.imageUrl(finalImageUrl)
-					.build();
-				candidateRepository.save(newCandidate);
+					.build());
 			} else {
-				// 기존 수정
-				Candidate existingCandidate = candidateRepository.findById(candidateId)
-					.orElseThrow(() -> new IllegalArgumentException("후보 없음"));
-
+				// 기존 수정 (💡 영속 상태이므로 변경 감지로 UPDATE, flush 시 배치로 묶입니다.)
+				Candidate existingCandidate = existingById.get(candidateId);
+				if (existingCandidate == null) {
+					throw new IllegalArgumentException("후보 없음");
+				}
 				existingCandidate.update(dto.getName(), finalImageUrl);
-				candidateRepository.save(existingCandidate);
+				updatedCandidates.add(existingCandidate);
+				requestedIds.add(candidateId);
 			}
 		}
 
+		// 4. 요청에 없는 후보는 삭제 (DELETE 한 번)
+		List<Candidate> removedCandidates = existingById.values().stream()
+			.filter(c -> !requestedIds.contains(c.getId()))
+			.collect(Collectors.toList());
+		candidateRepository.deleteAllInBatch(removedCandidates);
+
+		// 5. 신규 후보 일괄 INSERT
+		List<Candidate> savedCandidates = new ArrayList<>(candidateRepository.saveAll(newCandidates));
+		savedCandidates.addAll(updatedCandidates);
+
+		afterCommit(() -> {
+			responseCache.invalidateWorldcup(worldcupId);
+			removedCandidates.forEach(c -> {
+				leaderboard.remove(c.getId());
+				voterSketches.forgetCandidate(c.getId());
+			});
+			leaderboard.putAll(savedCandidates);
+			searchIndex.put(worldcup, savedCandidates.stream().map(Candidate::getName).toList());
+			requestImageDerivatives(newThumbnailUrl, Arrays.asList(newImageUrls));
+		});
+	}
+
+	// 새로 올라간 이미지의 파생 이미지 생성을 요청합니다. (DB 행이 커밋된 뒤에 호출)
+	private void requestImageDerivatives(String thumbnailUrl, List<String> candidateImageUrls) {
+		if (thumbnailUrl != null) {
+			imageDerivativeService.submitWorldcupThumbnail(thumbnailUrl);
+		}
+		candidateImageUrls.stream()
+			.filter(url -> url != null && !url.isEmpty())
+			.forEach(imageDerivativeService::submitCandidateImage);
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤에 실행할 작업을 등록합니다. (롤백 시 메모리 상태가 어긋나지 않도록)
+	 */
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
 	}
 }
\ No newline at end of file
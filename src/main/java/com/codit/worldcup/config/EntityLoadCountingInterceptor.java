@@ -0,0 +1,17 @@
+package com.codit.worldcup.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * 엔티티가 로딩될 때마다 QueryCounter를 증가시킵니다.
+ * (hibernate.session_factory.interceptor 설정으로 등록)
+ */
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+	@Override
+	public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		QueryCounter.entityLoaded();
+		return false;
+	}
+}
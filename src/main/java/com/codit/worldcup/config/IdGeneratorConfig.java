@@ -0,0 +1,17 @@
+package com.codit.worldcup.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import com.codit.worldcup.domain.id.TimeSortableIds;
+
+@Configuration
+public class IdGeneratorConfig {
+
+	/**
+	 * 시간순 ID 발급기의 노드 번호 설정 (서버 인스턴스마다 0~7 중 서로 다른 값)
+	 */
+	public IdGeneratorConfig(@Value("${worldcup.id.node-id:0}") long nodeId) {
+		TimeSortableIds.configureNode(nodeId);
+	}
+}
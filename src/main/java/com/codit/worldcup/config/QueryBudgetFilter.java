@@ -0,0 +1,85 @@
+package com.codit.worldcup.config;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * API 요청마다 실행된 SQL 문장 수와 로딩된 엔티티 수를 메트릭으로 기록합니다.
+ * 💡 worldcup.query-budget.max-statements를 넘는 요청은 경고 로그를 남기고,
+ *    fail-on-exceed=true(테스트 모드)이면 초과하는 순간 예외로 요청을 실패시킵니다.
+ */
+@Component
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+	private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+	private final MeterRegistry meterRegistry;
+	private final int maxStatements;
+	private final boolean failOnExceed;
+
+	public QueryBudgetFilter(MeterRegistry meterRegistry,
+		@Value("${worldcup.query-budget.max-statements:0}") int maxStatements,
+		@Value("${worldcup.query-budget.fail-on-exceed:false}") boolean failOnExceed) {
+		this.meterRegistry = meterRegistry;
+		this.maxStatements = maxStatements;
+		this.failOnExceed = failOnExceed;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !request.getRequestURI().startsWith("/api/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		QueryCounter.Counts counts = QueryCounter.start(maxStatements, failOnExceed);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			QueryCounter.stop();
+			record(request, counts);
+		}
+	}
+
+	private void record(HttpServletRequest request, QueryCounter.Counts counts) {
+		// 경로 변수 값 대신 매핑 패턴(/api/worldcup/{worldcupId})을 태그로 사용해 메트릭 수가 늘어나지 않게 합니다.
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = (pattern != null) ? pattern.toString() : "UNKNOWN";
+		String method = request.getMethod();
+
+		DistributionSummary.builder("worldcup.request.statements")
+			.description("요청당 실행된 SQL 문장 수")
+			.tag("method", method)
+			.tag("uri", uri)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(counts.statements());
+		DistributionSummary.builder("worldcup.request.entities")
+			.description("요청당 로딩된 엔티티 수")
+			.tag("method", method)
+			.tag("uri", uri)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(counts.entities());
+
+		if (counts.exceeded()) {
+			log.warn("SQL 예산 초과: {} {} (SQL {}건 / 예산 {}건, 엔티티 {}건)",
+				method, uri, counts.statements(), maxStatements, counts.entities());
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.codit.worldcup.config;
+
+/**
+ * 현재 요청(스레드)에서 실행된 SQL 문장 수와 로딩된 엔티티 수를 셉니다.
+ * 💡 Hibernate 통계는 SessionFactory 전체 합계라 동시 요청을 구분할 수 없으므로,
+ *    StatementInspector/Interceptor가 이 스레드 로컬 카운터를 증가시킵니다.
+ */
+public final class QueryCounter {
+
+	private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+	private QueryCounter() {
+	}
+
+	/**
+	 * 요청 하나의 집계 값. maxStatements가 0 이하이면 예산 검사를 하지 않습니다.
+	 */
+	public static final class Counts {
+		private final int maxStatements;
+		private final boolean failOnExceed;
+		private int statements;
+		private int entities;
+
+		private Counts(int maxStatements, boolean failOnExceed) {
+			this.maxStatements = maxStatements;
+			this.failOnExceed = failOnExceed;
+		}
+
+		public int statements() {
+			return statements;
+		}
+
+		public int entities() {
+			return entities;
+		}
+
+		public boolean exceeded() {
+			return maxStatements > 0 && statements > maxStatements;
+		}
+	}
+
+	public static Counts start(int maxStatements, boolean failOnExceed) {
+		Counts counts = new Counts(maxStatements, failOnExceed);
+		CURRENT.set(counts);
+		return counts;
+	}
+
+	public static void stop() {
+		CURRENT.remove();
+	}
+
+	static void statementPrepared(String sql) {
+		Counts counts = CURRENT.get();
+		if (counts == null) {
+			return; // 요청 밖(스케줄러, 백그라운드 작업)의 SQL은 집계하지 않습니다.
+		}
+		counts.statements++;
+		if (counts.failOnExceed && counts.exceeded()) {
+			throw new IllegalStateException("요청당 SQL 예산(" + counts.maxStatements + ")을 초과했습니다: " + sql);
+		}
+	}
+
+	static void entityLoaded() {
+		Counts counts = CURRENT.get();
+		if (counts != null) {
+			counts.entities++;
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.codit.worldcup.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL 문장마다 QueryCounter를 증가시킵니다.
+ * (hibernate.session_factory.statement_inspector 설정으로 등록)
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		QueryCounter.statementPrepared(sql);
+		return sql;
+	}
+}
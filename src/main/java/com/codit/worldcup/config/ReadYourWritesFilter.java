@@ -0,0 +1,75 @@
+package com.codit.worldcup.config;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 사용자가 데이터를 변경한 직후에는 그 사용자의 조회도 원본 DB로 보내, 복제 지연 때문에 방금 쓴 내용이 안 보이는 일을 막습니다.
+ * 💡 변경 요청(GET/HEAD/OPTIONS 외)을 보내면 일정 시간 동안 유효한 쿠키를 내려주고, 그 쿠키가 유효한 동안은 원본을 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "worldcup.datasource.replica-urls")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	static final String COOKIE_NAME = "worldcup-primary-until";
+
+	private final long windowMillis;
+
+	public ReadYourWritesFilter(@Value("${worldcup.datasource.read-your-writes-ms:3000}") long windowMillis) {
+		this.windowMillis = windowMillis;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+		throws ServletException, IOException {
+		long now = System.currentTimeMillis();
+		boolean write = isWrite(request.getMethod());
+		if (write) {
+			// 응답 본문이 쓰이기 전에 쿠키를 설정해야 하므로 처리 전에 내려줍니다.
+			long until = now + windowMillis;
+			Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(until));
+			cookie.setPath("/");
+			cookie.setHttpOnly(true);
+			cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+			response.addCookie(cookie);
+		}
+
+		ReplicaRoutingDataSource.forcePrimary(write || primaryUntil(request) > now);
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ReplicaRoutingDataSource.forcePrimary(false);
+		}
+	}
+
+	private static boolean isWrite(String method) {
+		return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+	}
+
+	private static long primaryUntil(HttpServletRequest request) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies == null) {
+			return 0;
+		}
+		for (Cookie cookie : cookies) {
+			if (COOKIE_NAME.equals(cookie.getName())) {
+				try {
+					return Long.parseLong(cookie.getValue());
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 0;
+	}
+}
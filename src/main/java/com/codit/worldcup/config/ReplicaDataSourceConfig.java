@@ -0,0 +1,80 @@
+package com.codit.worldcup.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * worldcup.datasource.replica-urls가 설정된 경우에만 읽기 복제본 라우팅을 구성합니다.
+ * 💡 복제본은 원본과 같은 계정/풀 설정(spring.datasource.hikari.*)을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "worldcup.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Bean(destroyMethod = "close")
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(
+		@Value("${spring.datasource.url}") String url,
+		@Value("${spring.datasource.username}") String username,
+		@Value("${spring.datasource.password}") String password,
+		@Value("${spring.datasource.driver-class-name}") String driverClassName) {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl(url);
+		dataSource.setUsername(username);
+		dataSource.setPassword(password);
+		dataSource.setDriverClassName(driverClassName);
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+		@Value("${worldcup.datasource.replica-urls}") List<String> replicaUrls,
+		@Value("${worldcup.datasource.replica-validation-timeout-seconds:1}") int validationTimeoutSeconds) {
+		List<DataSource> replicas = new ArrayList<>();
+		for (String replicaUrl : replicaUrls) {
+			HikariConfig config = new HikariConfig();
+			primaryDataSource.copyStateTo(config);
+			config.setJdbcUrl(replicaUrl.trim());
+			config.setPoolName("replica-" + replicas.size());
+			config.setReadOnly(true);
+			// 💡 복제본이 내려가 있어도 애플리케이션은 뜰 수 있도록 기동 시 연결을 강제하지 않습니다.
+			config.setInitializationFailTimeout(-1);
+			replicas.add(new HikariDataSource(config));
+		}
+		routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicas, validationTimeoutSeconds);
+		return routingDataSource;
+	}
+
+	/**
+	 * JPA/JdbcTemplate이 사용하는 DataSource. 커넥션을 첫 SQL 실행 시점에 가져오므로 트랜잭션의 readOnly 여부로 라우팅할 수 있습니다.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+	}
+
+	@Scheduled(fixedDelayString = "${worldcup.datasource.replica-health-check-interval-ms:5000}")
+	public void checkReplicas() {
+		if (routingDataSource != null) {
+			routingDataSource.checkReplicas();
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.codit.worldcup.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 원본(primary) DB로 보냅니다.
+ * 💡 트랜잭션의 readOnly 여부가 정해진 뒤에 커넥션을 고르도록 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ *
+ * - 복제본은 정상 상태인 것 중에서 돌아가며 선택하고, 모두 비정상이면 원본을 사용합니다.
+ * - 복제본 커넥션 획득에 실패하면 즉시 비정상으로 표시하고 원본으로 넘어갑니다. (checkReplicas()가 주기적으로 복구 확인)
+ * - forcePrimary()가 설정된 스레드(자신이 쓴 직후의 요청)는 읽기 전용이어도 원본을 사용합니다.
+ * - 복제본 커넥션 풀은 이 객체가 만들어 소유하므로 빈이 소멸될 때 함께 닫습니다. (원본은 별도 빈이 닫음)
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	static final String PRIMARY = "primary";
+	private static final String REPLICA_PREFIX = "replica-";
+
+	private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+	private final DataSource primary;
+	private final List<DataSource> replicas;
+	private final AtomicIntegerArray healthy; // 1 = 정상, 0 = 비정상
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final int validationTimeoutSeconds;
+
+	public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, int validationTimeoutSeconds) {
+		this.primary = primary;
+		this.replicas = List.copyOf(replicas);
+		this.healthy = new AtomicIntegerArray(replicas.size());
+		this.validationTimeoutSeconds = validationTimeoutSeconds;
+
+		Map<Object, Object> targets = new HashMap<>();
+		targets.put(PRIMARY, primary);
+		for (int i = 0; i < replicas.size(); i++) {
+			targets.put(REPLICA_PREFIX + i, replicas.get(i));
+			healthy.set(i, 1);
+		}
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * 현재 스레드의 읽기 전용 트랜잭션도 원본으로 보냅니다. (read-your-writes)
+	 */
+	public static void forcePrimary(boolean force) {
+		if (force) {
+			FORCE_PRIMARY.set(Boolean.TRUE);
+		} else {
+			FORCE_PRIMARY.remove();
+		}
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || FORCE_PRIMARY.get() != null) {
+			return PRIMARY;
+		}
+		int replicaIndex = pickHealthyReplica();
+		return (replicaIndex < 0) ? PRIMARY : REPLICA_PREFIX + replicaIndex;
+	}
+
+	private int pickHealthyReplica() {
+		int count = replicas.size();
+		int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+		for (int i = 0; i < count; i++) {
+			int index = (start + i) % count;
+			if (healthy.get(index) == 1) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		Object key = determineCurrentLookupKey();
+		if (PRIMARY.equals(key)) {
+			return primary.getConnection();
+		}
+		int replicaIndex = replicaIndexOf(key);
+		try {
+			return replicas.get(replicaIndex).getConnection();
+		} catch (SQLException e) {
+			markDown(replicaIndex, e);
+			return primary.getConnection();
+		}
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		Object key = determineCurrentLookupKey();
+		if (PRIMARY.equals(key)) {
+			return primary.getConnection(username, password);
+		}
+		int replicaIndex = replicaIndexOf(key);
+		try {
+			return replicas.get(replicaIndex).getConnection(username, password);
+		} catch (SQLException e) {
+			markDown(replicaIndex, e);
+			return primary.getConnection(username, password);
+		}
+	}
+
+	/**
+	 * 복제본마다 커넥션을 열어 유효성을 확인하고 정상/비정상 상태를 갱신합니다.
+	 */
+	public void checkReplicas() {
+		for (int i = 0; i < replicas.size(); i++) {
+			boolean valid;
+			try (Connection connection = replicas.get(i).getConnection()) {
+				valid = connection.isValid(validationTimeoutSeconds);
+			} catch (SQLException e) {
+				valid = false;
+			}
+			int previous = healthy.getAndSet(i, valid ? 1 : 0);
+			if (previous == 0 && valid) {
+				log.info("복제본 {}이(가) 복구되어 읽기 요청을 다시 받습니다.", i);
+			} else if (previous == 1 && !valid) {
+				log.warn("복제본 {}이(가) 응답하지 않아 원본 DB로 전환합니다.", i);
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		for (DataSource replica : replicas) {
+			if (replica instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception e) {
+					log.warn("복제본 커넥션 풀을 닫지 못했습니다: {}", e.getMessage());
+				}
+			}
+		}
+	}
+
+	public boolean isHealthy(int replicaIndex) {
+		return healthy.get(replicaIndex) == 1;
+	}
+
+	private void markDown(int replicaIndex, SQLException cause) {
+		if (healthy.getAndSet(replicaIndex, 0) == 1) {
+			log.warn("복제본 {} 커넥션 획득 실패, 원본 DB로 전환합니다: {}", replicaIndex, cause.getMessage());
+		}
+	}
+
+	private static int replicaIndexOf(Object key) {
+		return Integer.parseInt(((String) key).substring(REPLICA_PREFIX.length()));
+	}
+}
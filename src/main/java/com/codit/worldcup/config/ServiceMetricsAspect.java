@@ -0,0 +1,47 @@
+package com.codit.worldcup.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * WorldcupService, UserService, S3Service의 public 메서드 실행 시간을 Micrometer 타이머(히스토그램 포함)로 기록합니다.
+ * 💡 /actuator/metrics/worldcup.service?tag=method:findWorldcupDetail 처럼 조회할 수 있습니다.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+	private final MeterRegistry meterRegistry;
+
+	public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Around("execution(public * com.codit.worldcup.application.service.WorldcupService.*(..))"
+		+ " || execution(public * com.codit.worldcup.application.service.UserService.*(..))"
+		+ " || execution(public * com.codit.worldcup.application.service.S3Service.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String exception = "none";
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			exception = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			sample.stop(Timer.builder("worldcup.service")
+				.description("서비스 메서드 실행 시간")
+				.tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+				.tag("method", joinPoint.getSignature().getName())
+				.tag("exception", exception)
+				.publishPercentileHistogram()
+				.publishPercentiles(0.5, 0.99, 0.999)
+				.register(meterRegistry));
+		}
+	}
+}
@@ -1,16 +1,23 @@
 package com.codit.worldcup.domain.entity;
 
+import com.codit.worldcup.domain.id.TimeSortableId;
+
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
-@Table(name = "candidate")
+@Table(name = "candidate", indexes = {
+	@Index(name = "idx_candidate_worldcup", columnList = "worldcup_id"),
+	@Index(name = "idx_candidate_image_url", columnList = "image_url") // 💡 파생 이미지 URL 기록, 고아 이미지 정리 시 원본 URL로 조회
+})
+@DynamicUpdate // 💡 이름/이미지 수정 시 카운터 컬럼을 덮어쓰지 않도록 변경된 컬럼만 UPDATE
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Candidate {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeSortableId // 💡 INSERT 배치를 위해 IDENTITY 대신 애플리케이션에서 ID 발급
 	private Long id;
 
 	@Column(name = "worldcup_id", nullable = false)
@@ -22,6 +29,16 @@ public class Candidate {
 	@Column(name = "image_url", length = 512)
 	private String imageUrl;
 
+	// 💡 원본에서 생성된 파생 이미지 URL (생성 전이거나 실패하면 null)
+	@Column(name = "thumbnail_image_url", length = 512)
+	private String thumbnailImageUrl;
+
+	@Column(name = "bracket_image_url", length = 512)
+	private String bracketImageUrl;
+
+	@Column(name = "full_image_url", length = 512)
+	private String fullImageUrl;
+
 	@Column(name = "win_count", nullable = false)
 	private int winCount = 0; // 1등으로 뽑힌 횟수
 
@@ -47,6 +64,12 @@ public class Candidate {
 	}
 	public void update(String name, String imageUrl) {
 		this.name = name;
+		if (imageUrl == null ? this.imageUrl != null : !imageUrl.equals(this.imageUrl)) {
+			// 원본이 바뀌면 이전 파생 이미지는 더 이상 유효하지 않습니다.
+			this.thumbnailImageUrl = null;
+			this.bracketImageUrl = null;
+			this.fullImageUrl = null;
+		}
 		this.imageUrl = imageUrl;
 	}
 
@@ -1,17 +1,22 @@
 package com.codit.worldcup.domain.entity;
 
+import com.codit.worldcup.domain.id.TimeSortableId;
+
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+	// 댓글 커서 페이지네이션용 복합 인덱스
+	@Index(name = "idx_comment_worldcup_created_id", columnList = "worldcup_id, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeSortableId // 💡 INSERT 배치를 위해 IDENTITY 대신 애플리케이션에서 ID 발급
 	private Long id;
 
 	@Column(name = "worldcup_id", nullable = false)
@@ -1,17 +1,22 @@
 package com.codit.worldcup.domain.entity;
 
+import com.codit.worldcup.domain.id.TimeSortableId;
+
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_result")
+@Table(name = "user_result", indexes = {
+	@Index(name = "idx_user_result_worldcup", columnList = "worldcup_id"),
+	@Index(name = "idx_user_result_winner_user", columnList = "winner_id, user_id") // 💡 우승 후보별 투표자 일괄 조회 (인덱스만으로 distinct 처리)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UserResult {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@TimeSortableId // 💡 INSERT 배치를 위해 IDENTITY 대신 애플리케이션에서 ID 발급
 	private Long id;
 
 	@Column(name = "user_id", nullable = false)
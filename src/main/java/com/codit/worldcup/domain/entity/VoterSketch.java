@@ -0,0 +1,44 @@
+package com.codit.worldcup.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 후보/월드컵별 고유 투표자 수를 근사하는 HyperLogLog 레지스터
+ * 💡 키는 "candidate:{id}"(해당 후보를 1등으로 뽑은 사용자) 또는 "worldcup:{id}"(해당 월드컵을 끝까지 진행한 사용자)입니다.
+ *    estimate는 레지스터로 계산한 추정값을 함께 저장해 둔 것으로, 기동 시 레지스터를 읽지 않고 추정값만 적재하기 위해 사용합니다.
+ */
+@Entity
+@Table(name = "voter_sketch", indexes = {
+	@Index(name = "idx_voter_sketch_worldcup", columnList = "worldcup_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VoterSketch {
+
+	@Id
+	@Column(name = "sketch_key", length = 40)
+	private String sketchKey;
+
+	@Column(name = "worldcup_id", nullable = false)
+	private Long worldcupId; // 삭제된 월드컵 정리용
+
+	@Column(name = "registers", nullable = false, length = 1024)
+	private byte[] registers;
+
+	@Column(name = "estimate", nullable = false)
+	private long estimate;
+
+	@Builder
+	public VoterSketch(String sketchKey, Long worldcupId, byte[] registers, long estimate) {
+		this.sketchKey = sketchKey;
+		this.worldcupId = worldcupId;
+		this.registers = registers;
+		this.estimate = estimate;
+	}
+
+	public void update(byte[] registers, long estimate) {
+		this.registers = registers;
+		this.estimate = estimate;
+	}
+}
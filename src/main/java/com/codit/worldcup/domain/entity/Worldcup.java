@@ -5,7 +5,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "worldcup")
+@Table(name = "worldcup", indexes = {
+	@Index(name = "idx_worldcup_thumbnail_url", columnList = "thumbnail_url") // 💡 목록용 썸네일 URL 기록, 고아 이미지 정리 시 썸네일 URL로 조회
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Worldcup {
@@ -20,6 +22,14 @@ public class Worldcup {
 	@Column(name = "thumbnail_url", length = 512)
 	private String thumbnailUrl;
 
+	// 💡 목록 화면용으로 축소한 썸네일 URL (생성 전이거나 실패하면 null)
+	@Column(name = "thumbnail_preview_url", length = 512)
+	private String thumbnailPreviewUrl;
+
+	// 💡 삭제 요청된 월드컵 (관련 데이터는 백그라운드에서 정리된 뒤 행 자체가 삭제됨)
+	@Column(name = "deleted", nullable = false, columnDefinition = "boolean default false")
+	private boolean deleted = false;
+
 	@Column(name = "created_at", nullable = false)
 	private LocalDateTime createdAt;
 
@@ -34,8 +44,15 @@ public class Worldcup {
 		this.title = title;
 		this.thumbnailUrl = thumbnailUrl;
 	}
+	public void markDeleted() {
+		this.deleted = true;
+	}
+
 	public void update(String title, String thumbnailUrl) {
 		this.title = title;
+		if (thumbnailUrl == null ? this.thumbnailUrl != null : !thumbnailUrl.equals(this.thumbnailUrl)) {
+			this.thumbnailPreviewUrl = null;
+		}
 		this.thumbnailUrl = thumbnailUrl;
 	}
 
@@ -0,0 +1,18 @@
+package com.codit.worldcup.domain.id;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 애플리케이션에서 미리 발급하는 시간순 정렬 ID를 사용합니다.
+ * 💡 IDENTITY와 달리 INSERT 전에 ID가 정해지므로 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있습니다.
+ */
+@IdGeneratorType(TimeSortableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeSortableId {
+}
@@ -0,0 +1,65 @@
+package com.codit.worldcup.domain.id;
+
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간순으로 증가하는 53비트 ID 발급기입니다.
+ * 💡 프론트엔드(JavaScript Number)에서 정밀도 손실 없이 다룰 수 있도록 2^53 미만으로 제한합니다.
+ *
+ * 비트 구성: [밀리초 타임스탬프 40비트 (2025-01-01 기준, 약 34년)] [노드 3비트] [시퀀스 10비트]
+ * - 노드 번호(0~7)는 서버 인스턴스마다 다르게 설정해야 합니다. (worldcup.id.node-id)
+ * - 같은 밀리초에 1024개를 넘으면 다음 밀리초까지 기다립니다.
+ */
+public final class TimeSortableIds {
+
+	private static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+	private static final int NODE_BITS = 3;
+	private static final int SEQUENCE_BITS = 10;
+	private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	// 💡 synchronized 대신 ReentrantLock을 사용해 가상 스레드가 대기 중에 캐리어 스레드를 점유(pinning)하지 않게 합니다.
+	private static final ReentrantLock LOCK = new ReentrantLock();
+
+	private static volatile long node = 0;
+	private static long lastMillis = -1;
+	private static long sequence = 0;
+
+	private TimeSortableIds() {
+	}
+
+	public static void configureNode(long nodeId) {
+		if (nodeId < 0 || nodeId > MAX_NODE) {
+			throw new IllegalArgumentException("노드 번호는 0 ~ " + MAX_NODE + " 사이여야 합니다: " + nodeId);
+		}
+		node = nodeId;
+	}
+
+	public static long next() {
+		LOCK.lock();
+		try {
+			return nextLocked();
+		} finally {
+			LOCK.unlock();
+		}
+	}
+
+	private static long nextLocked() {
+		long now = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastMillis); // 시계가 뒤로 가도 단조 증가 유지
+		if (now == lastMillis) {
+			sequence = (sequence + 1) & SEQUENCE_MASK;
+			if (sequence == 0) {
+				// 이번 밀리초의 시퀀스를 모두 썼으면 다음 밀리초까지 대기
+				while (now <= lastMillis) {
+					Thread.onSpinWait();
+					now = System.currentTimeMillis() - EPOCH_MILLIS;
+				}
+			}
+		} else {
+			sequence = 0;
+		}
+		lastMillis = now;
+		return (now << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+	}
+}
@@ -0,0 +1,7 @@
+package com.codit.worldcup.domain.repository;
+
+/**
+ * 랭킹 계산에 필요한 후보 컬럼만 담은 조회 결과 (엔티티를 만들지 않음)
+ */
+public record CandidateRankRow(Long id, Long worldcupId, String name, int winCount, int totalSelectionCount) {
+}
@@ -1,12 +1,48 @@
 package com.codit.worldcup.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.codit.worldcup.domain.entity.Candidate;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.QueryHint;
 
 public interface CandidateRepository extends JpaRepository<Candidate, Long> {
 	// 월드컵 ID로 모든 후보를 찾는 메서드 (월드컵 시작 시 사용)
 	List<Candidate> findAllByWorldcupId(Long worldcupId);
-	void deleteAllByWorldcupId(Long worldcupId);
+
+	// 💡 삭제된 월드컵 정리용: 엔티티를 읽지 않고 최대 limit 건씩 삭제 (MySQL DELETE ... LIMIT)
+	@Modifying
+	@Query(value = "DELETE FROM candidate WHERE worldcup_id = :worldcupId LIMIT :limit", nativeQuery = true)
+	int deleteChunkByWorldcupId(@Param("worldcupId") Long worldcupId, @Param("limit") int limit);
+
+	// 💡 고아 이미지 정리용: 주어진 URL 중 후보 원본 이미지로 참조되는 것만 조회
+	@Query("select distinct c.imageUrl from Candidate c where c.imageUrl in :urls")
+	List<String> findReferencedImageUrls(@Param("urls") Collection<String> urls);
+
+	// 토너먼트 대진표 생성용: 후보 ID만 조회
+	@Query("select c.id from Candidate c where c.worldcupId = :worldcupId")
+	List<Long> findIdsByWorldcupId(@Param("worldcupId") Long worldcupId);
+
+	// 💡 랭킹 계산용: 후보 전체를 엔티티 대신 필요한 컬럼만 커서로 조금씩 읽습니다. (트랜잭션 안에서 사용 후 close 필요)
+	//    삭제 표시만 되고 아직 정리되지 않은 월드컵의 후보는 제외합니다.
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("select new com.codit.worldcup.domain.repository.CandidateRankRow(c.id, c.worldcupId, c.name, c.winCount, c.totalSelectionCount)"
+		+ " from Candidate c where exists (select 1 from Worldcup w where w.id = c.worldcupId and w.deleted = false)")
+	Stream<CandidateRankRow> streamRankRows();
+
+	// 파생 이미지 생성이 끝나면 같은 원본을 쓰는 후보들에 URL 기록
+	@Transactional
+	@Modifying
+	@Query("update Candidate c set c.thumbnailImageUrl = :thumbnail, c.bracketImageUrl = :bracket, c.fullImageUrl = :full"
+		+ " where c.imageUrl = :imageUrl")
+	int updateImageVariants(@Param("imageUrl") String imageUrl, @Param("thumbnail") String thumbnail,
+		@Param("bracket") String bracket, @Param("full") String full);
 }
\ No newline at end of file
@@ -1,12 +1,30 @@
 package com.codit.worldcup.domain.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import com.codit.worldcup.domain.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 	// 특정 월드컵의 모든 댓글을 찾는 메서드
 	List<Comment> findAllByWorldcupIdOrderByCreatedAtDesc(Long worldcupId);
-	void deleteAllByWorldcupId(Long worldcupId);
-}
\ No newline at end of file
+
+	// 💡 삭제된 월드컵 정리용: 엔티티를 읽지 않고 최대 limit 건씩 삭제 (MySQL DELETE ... LIMIT)
+	@Modifying
+	@Query(value = "DELETE FROM comment WHERE worldcup_id = :worldcupId LIMIT :limit", nativeQuery = true)
+	int deleteChunkByWorldcupId(@Param("worldcupId") Long worldcupId, @Param("limit") int limit);
+
+	// 💡 커서 기반(keyset) 페이지 조회: (worldcup_id, created_at, id) 인덱스를 그대로 타므로 스크롤 깊이와 무관하게 일정한 비용
+	List<Comment> findByWorldcupIdOrderByCreatedAtDescIdDesc(Long worldcupId, Limit limit);
+
+	@Query("select c from Comment c where c.worldcupId = :worldcupId"
+		+ " and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))"
+		+ " order by c.createdAt desc, c.id desc")
+	List<Comment> findPageAfter(@Param("worldcupId") Long worldcupId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id, Limit limit);
+}
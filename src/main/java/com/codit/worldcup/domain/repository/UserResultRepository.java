@@ -1,12 +1,29 @@
 package com.codit.worldcup.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.codit.worldcup.domain.entity.UserResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserResultRepository extends JpaRepository<UserResult, Long> {
 	// 특정 월드컵의 우승자를 뽑은 모든 기록을 조회 (랭킹 조건 4에 사용)
 	List<UserResult> findAllByWorldcupId(Long worldcupId);
-	void deleteAllByWorldcupId(Long worldcupId);
-}
\ No newline at end of file
+
+	// 💡 삭제된 월드컵 정리용: 엔티티를 읽지 않고 최대 limit 건씩 삭제 (MySQL DELETE ... LIMIT)
+	@Modifying
+	@Query(value = "DELETE FROM user_result WHERE worldcup_id = :worldcupId LIMIT :limit", nativeQuery = true)
+	int deleteChunkByWorldcupId(@Param("worldcupId") Long worldcupId, @Param("limit") int limit);
+
+	// 여러 후보를 1등으로 뽑은 사용자 ID를 한 번에 조회 (후보별 N번 조회 방지)
+	@Query("select distinct r.winnerId as winnerId, r.userId as userId from UserResult r where r.winnerId in :winnerIds")
+	List<WinnerVoter> findWinnerVotersByWinnerIdIn(@Param("winnerIds") Collection<Long> winnerIds);
+
+	interface WinnerVoter {
+		Long getWinnerId();
+		Long getUserId();
+	}
+}
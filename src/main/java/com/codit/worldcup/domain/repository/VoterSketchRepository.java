@@ -0,0 +1,39 @@
+package com.codit.worldcup.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.codit.worldcup.domain.entity.VoterSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface VoterSketchRepository extends JpaRepository<VoterSketch, String> {
+	// 💡 여러 서버가 같은 스케치를 동시에 병합하지 않도록 행 잠금을 잡고 조회
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from VoterSketch s where s.sketchKey in :keys")
+	List<VoterSketch> findAllForUpdate(@Param("keys") Collection<String> keys);
+
+	// 기동 시 추정값만 적재 (레지스터는 읽지 않음)
+	@Query("select s.sketchKey as sketchKey, s.estimate as estimate from VoterSketch s")
+	Stream<SketchEstimate> streamEstimates();
+
+	// 전체 통합 고유 투표자 수 계산용: 월드컵 단위 스케치의 레지스터만 조회
+	@Query("select s.registers from VoterSketch s where s.sketchKey like 'worldcup:%'")
+	Stream<byte[]> streamWorldcupRegisters();
+
+	// 💡 삭제된 월드컵 정리용: 엔티티를 읽지 않고 최대 limit 건씩 삭제 (MySQL DELETE ... LIMIT)
+	@Modifying
+	@Query(value = "DELETE FROM voter_sketch WHERE worldcup_id = :worldcupId LIMIT :limit", nativeQuery = true)
+	int deleteChunkByWorldcupId(@Param("worldcupId") Long worldcupId, @Param("limit") int limit);
+
+	interface SketchEstimate {
+		String getSketchKey();
+		long getEstimate();
+	}
+}
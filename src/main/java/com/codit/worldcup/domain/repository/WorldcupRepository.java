@@ -1,8 +1,42 @@
 package com.codit.worldcup.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 import com.codit.worldcup.domain.entity.Worldcup;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
 
 public interface WorldcupRepository extends JpaRepository<Worldcup, Long> {
-	// 추가적인 쿼리 없이 기본 CRUD만 사용합니다.
-}
\ No newline at end of file
+
+	// 삭제 표시되지 않은 월드컵 목록 (메인 화면)
+	List<Worldcup> findAllByDeletedFalse();
+
+	boolean existsByIdAndDeletedFalse(Long id);
+
+	// 💡 결과 기록용: 공유 잠금으로 조회하여, 기록 트랜잭션이 커밋될 때까지 삭제 표시(UPDATE)가 기다리도록 합니다.
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("select w from Worldcup w where w.id = :id and w.deleted = false")
+	Optional<Worldcup> findActiveByIdForShare(@Param("id") Long id);
+
+	// 정리(purge)가 남아 있는 월드컵 ID 목록
+	@Query("select w.id from Worldcup w where w.deleted = true")
+	List<Long> findDeletedIds();
+
+	// 💡 고아 이미지 정리용: 주어진 URL 중 월드컵 썸네일로 참조되는 것만 조회 (삭제 표시만 된 월드컵 포함)
+	@Query("select distinct w.thumbnailUrl from Worldcup w where w.thumbnailUrl in :urls")
+	List<String> findReferencedThumbnailUrls(@Param("urls") Collection<String> urls);
+
+	// 파생 이미지 생성이 끝나면 같은 썸네일을 쓰는 월드컵에 목록용 URL 기록
+	@Transactional
+	@Modifying
+	@Query("update Worldcup w set w.thumbnailPreviewUrl = :previewUrl where w.thumbnailUrl = :thumbnailUrl")
+	int updateThumbnailPreview(@Param("thumbnailUrl") String thumbnailUrl, @Param("previewUrl") String previewUrl);
+}
@@ -1,14 +1,32 @@
 package com.codit.worldcup.presentation.controller;
 
 import java.util.List;
+import java.util.concurrent.Callable;
 
+import com.codit.worldcup.application.service.ImageDerivativeService;
+import com.codit.worldcup.application.service.ResultExporter;
+import com.codit.worldcup.application.service.TournamentService;
+import com.codit.worldcup.application.service.WorldcupPurger;
 import com.codit.worldcup.application.service.WorldcupService;
 import com.codit.worldcup.presentation.dto.CandidateRankResponse;
+import com.codit.worldcup.presentation.dto.ImageProcessingStatusResponse;
+import com.codit.worldcup.presentation.dto.PurgeProgressResponse;
+import com.codit.worldcup.presentation.dto.VoterCountResponse;
 import com.codit.worldcup.presentation.dto.WorldcupCreateRequest;
 import com.codit.worldcup.presentation.dto.WorldcupCreateResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
 
@@ -17,9 +35,18 @@ import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
 public class AdminController {
 
 	private final WorldcupService worldcupService;
+	private final ImageDerivativeService imageDerivativeService;
+	private final WorldcupPurger worldcupPurger;
+	private final ResultExporter resultExporter;
+	private final TournamentService tournamentService;
 
-	public AdminController(WorldcupService worldcupService) {
+	public AdminController(WorldcupService worldcupService, ImageDerivativeService imageDerivativeService, WorldcupPurger worldcupPurger,
+		ResultExporter resultExporter, TournamentService tournamentService) {
 		this.worldcupService = worldcupService;
+		this.imageDerivativeService = imageDerivativeService;
+		this.worldcupPurger = worldcupPurger;
+		this.resultExporter = resultExporter;
+		this.tournamentService = tournamentService;
 	}
 
 	/**
@@ -41,10 +68,25 @@ public class AdminController {
 	/**
 	 * GET /api/admin/rank/{worldcupId} : 특정 월드컵의 랭킹 통계를 조회합니다. (Admin 전용)
 	 * @param worldcupId 조회할 월드컵 ID (프론트에서 'all'을 보내면 전체 통합 랭킹으로 처리 가능)
+	 * @param offset 건너뛸 순위 수 (기본 0)
+	 * @param limit 조회할 최대 개수 (생략 시 전체)
 	 */
 	@GetMapping("/admin/rank/{worldcupId}")
-	public List<CandidateRankResponse> getRank(@PathVariable String worldcupId) {
-		return worldcupService.calculateAndGetRank(worldcupId);
+	public List<CandidateRankResponse> getRank(
+		@PathVariable String worldcupId,
+		@RequestParam(defaultValue = "0") int offset,
+		@RequestParam(required = false) Integer limit
+	) {
+		return worldcupService.calculateAndGetRank(worldcupId, offset, limit);
+	}
+
+	/**
+	 * GET /api/admin/rank/{worldcupId}/voters : 월드컵을 끝까지 진행한 고유 사용자 수(근사값)를 조회합니다. (Admin 전용)
+	 * @param worldcupId 조회할 월드컵 ID ('all'이면 모든 월드컵의 스케치를 병합해 중복 없이 셈)
+	 */
+	@GetMapping("/admin/rank/{worldcupId}/voters")
+	public VoterCountResponse getDistinctVoters(@PathVariable String worldcupId) {
+		return new VoterCountResponse(worldcupId, worldcupService.countDistinctVoters(worldcupId));
 	}
 
 	//얘도 수정해야됨.
@@ -84,5 +126,90 @@ public class AdminController {
 	@ResponseStatus(HttpStatus.NO_CONTENT) // 💡 204 No Content
 	public void deleteWorldcup(@PathVariable Long worldcupId) {
 		worldcupService.deleteWorldcup(worldcupId);
+		tournamentService.forgetWorldcup(worldcupId); // 진행 중이던 토너먼트는 더 이상 제출할 수 없음
+	}
+
+	/**
+	 * GET /api/admin/purge : 삭제된 월드컵의 데이터 정리 진행 상황을 조회합니다. (Admin 전용)
+	 */
+	@GetMapping("/admin/purge")
+	public List<PurgeProgressResponse> getPurgeProgresses() {
+		return worldcupPurger.progresses().stream()
+			.map(this::toPurgeProgressResponse)
+			.toList();
+	}
+
+	/**
+	 * GET /api/admin/purge/{worldcupId} : 특정 월드컵의 데이터 정리 진행 상황을 조회합니다. (Admin 전용)
+	 */
+	@GetMapping("/admin/purge/{worldcupId}")
+	public PurgeProgressResponse getPurgeProgress(@PathVariable Long worldcupId) {
+		WorldcupPurger.Progress progress = worldcupPurger.progressOf(worldcupId);
+		if (progress == null) {
+			throw new IllegalArgumentException("정리 중인 월드컵이 아닙니다: " + worldcupId);
+		}
+		return toPurgeProgressResponse(progress);
+	}
+
+	private PurgeProgressResponse toPurgeProgressResponse(WorldcupPurger.Progress progress) {
+		return new PurgeProgressResponse(progress.getWorldcupId(), progress.getPhase().name(),
+			progress.getDeletedUserResults(), progress.getDeletedComments(), progress.getDeletedCandidates(),
+			progress.getDeletedVoterSketches());
+	}
+
+	/**
+	 * GET /api/admin/images/status : 파생 이미지 생성 작업 현황을 조회합니다. (Admin 전용)
+	 */
+	@GetMapping("/admin/images/status")
+	public ImageProcessingStatusResponse getImageProcessingStatus() {
+		ImageDerivativeService.Status status = imageDerivativeService.status();
+		return new ImageProcessingStatusResponse(status.queued(), status.active(), status.completed(), status.failed(), status.rejected());
+	}
+
+	/**
+	 * GET /api/admin/export/results?format=ndjson|csv&worldcupId= : 선택 결과(user_result)를 내려받습니다. (Admin 전용)
+	 * 💡 DB 커서에서 읽는 대로 응답에 쓰므로 행 수가 많아도 서버 메모리 사용량이 늘지 않습니다.
+	 * @param worldcupId 내보낼 월드컵 ID (생략 시 전체)
+	 */
+	@GetMapping("/admin/export/results")
+	public ResponseEntity<StreamingResponseBody> exportResults(
+		@RequestParam(defaultValue = "ndjson") String format,
+		@RequestParam(required = false) Long worldcupId,
+		HttpServletRequest request
+	) {
+		ResultExporter.Format exportFormat = ResultExporter.Format.from(format);
+		return toExportResponse("user-results", worldcupId, resultExporter.exportResults(worldcupId, exportFormat), request);
+	}
+
+	/**
+	 * GET /api/admin/export/rank?format=ndjson|csv&worldcupId= : 후보 랭킹(1등 횟수, 총 선택 횟수)을 내려받습니다. (Admin 전용)
+	 * @param worldcupId 내보낼 월드컵 ID (생략 시 전체 월드컵을 월드컵별 순위대로)
+	 */
+	@GetMapping("/admin/export/rank")
+	public ResponseEntity<StreamingResponseBody> exportRank(
+		@RequestParam(defaultValue = "ndjson") String format,
+		@RequestParam(required = false) Long worldcupId,
+		HttpServletRequest request
+	) {
+		ResultExporter.Format exportFormat = ResultExporter.Format.from(format);
+		return toExportResponse("candidate-rank", worldcupId, resultExporter.exportRanks(worldcupId, exportFormat), request);
+	}
+
+	private static ResponseEntity<StreamingResponseBody> toExportResponse(String name, Long worldcupId,
+		ResultExporter.Export export, HttpServletRequest request) {
+		// 💡 시간 초과/연결 끊김으로 본문이 실행되지 않고 끝나도 내보내기 허가를 반납합니다.
+		WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ResultExporter.class.getName(),
+			new CallableProcessingInterceptor() {
+				@Override
+				public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+					export.release();
+				}
+			});
+		ResultExporter.Format format = export.format();
+		String filename = name + (worldcupId == null ? "" : "-" + worldcupId) + "." + format.extension();
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(format.mediaType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+			.body(export);
 	}
-}
\ No newline at end of file
+}
@@ -1,21 +1,38 @@
 package com.codit.worldcup.presentation.controller;
 
+import com.codit.worldcup.application.service.JsonResponseCache;
+import com.codit.worldcup.application.service.RankBroadcaster;
+import com.codit.worldcup.application.service.TournamentService;
 import com.codit.worldcup.application.service.WorldcupService;
+import com.codit.worldcup.presentation.dto.CommentPageResponse;
 import com.codit.worldcup.presentation.dto.CommentRequest;
 import com.codit.worldcup.presentation.dto.CommentResponse;
 import com.codit.worldcup.presentation.dto.SelectionRequest;
-import com.codit.worldcup.presentation.dto.WorldcupDetailResponse;
-import com.codit.worldcup.presentation.dto.WorldcupListResponse;
+import com.codit.worldcup.presentation.dto.TournamentStartRequest;
+import com.codit.worldcup.presentation.dto.TournamentStartResponse;
+import com.codit.worldcup.presentation.dto.TournamentSubmitRequest;
+import com.codit.worldcup.presentation.dto.TournamentSubmitResponse;
+import com.codit.worldcup.presentation.dto.TrendingWorldcupResponse;
 import com.codit.worldcup.presentation.dto.WorldcupResultResponse;
+import com.codit.worldcup.presentation.dto.WorldcupSearchResponse;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @RestController
@@ -23,34 +40,171 @@ import java.util.List;
 public class WorldcupController {
 
 	private final WorldcupService worldcupService;
+	private final TournamentService tournamentService;
+	private final JsonResponseCache responseCache;
+	private final RankBroadcaster rankBroadcaster;
 
-	public WorldcupController(WorldcupService worldcupService) {
+	public WorldcupController(WorldcupService worldcupService, TournamentService tournamentService, JsonResponseCache responseCache,
+		RankBroadcaster rankBroadcaster) {
 		this.worldcupService = worldcupService;
+		this.tournamentService = tournamentService;
+		this.responseCache = responseCache;
+		this.rankBroadcaster = rankBroadcaster;
 	}
 
 	// 월드컵 목록 조회 (GET /api/main)
+	// 💡 미리 직렬화해 둔 JSON을 그대로 내려줍니다.
 	@GetMapping("/main")
-	public List<WorldcupListResponse> getWorldcupList() {
-		return worldcupService.findAllWorldcups();
+	public ResponseEntity<byte[]> getWorldcupList(
+		@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return toCachedResponse(responseCache.mainList(worldcupService::findAllWorldcups), accept, acceptEncoding);
+	}
+
+	// 인기 월드컵 조회 (GET /api/main/trending?window=1h&limit=10)
+	// 💡 최근 선택 수를 시간 감쇠 점수로 정렬합니다. 창은 worldcup.trending.windows에 설정된 값(기본 1h, 24h)만 가능합니다.
+	@GetMapping("/main/trending")
+	public List<TrendingWorldcupResponse> getTrendingWorldcups(
+		@RequestParam(defaultValue = "1h") String window,
+		@RequestParam(defaultValue = "10") int limit) {
+		return worldcupService.findTrendingWorldcups(window, limit);
+	}
+
+	// 월드컵 검색 (GET /api/main/search?q=아이돌&offset=0&limit=20)
+	// 💡 제목과 후보 이름을 부분 문자열/초성으로 찾습니다. 목록 전체를 내려받아 브라우저에서 거를 필요가 없습니다.
+	@GetMapping("/main/search")
+	public WorldcupSearchResponse searchWorldcups(
+		@RequestParam String q,
+		@RequestParam(defaultValue = "0") int offset,
+		@RequestParam(defaultValue = "20") int limit) {
+		return worldcupService.searchWorldcups(q, offset, limit);
+	}
+
+	// 실시간 랭킹 구독 (GET /api/rank/{worldcupId}/stream, 'all'이면 전체 통합 랭킹)
+	// 💡 Server-Sent Events로 처음에 상위 랭킹 전체(snapshot)를, 이후에는 주기마다 바뀐 행만(delta) 받습니다.
+	@GetMapping(value = "/rank/{worldcupId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamRank(@PathVariable String worldcupId) {
+		if (worldcupId.equalsIgnoreCase("all")) {
+			return rankBroadcaster.subscribe(null);
+		}
+		try {
+			return rankBroadcaster.subscribe(Long.parseLong(worldcupId));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("유효하지 않은 월드컵 ID 형식입니다: " + worldcupId);
+		}
 	}
 
 	@GetMapping("/worldcup/{worldcupId}")
-	public WorldcupDetailResponse getWorldcupDetail(@PathVariable Long worldcupId) {
-		return worldcupService.findWorldcupDetail(worldcupId);
+	public ResponseEntity<byte[]> getWorldcupDetail(@PathVariable Long worldcupId,
+		@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return toCachedResponse(responseCache.worldcupDetail(worldcupId, () -> worldcupService.findWorldcupDetail(worldcupId)),
+			accept, acceptEncoding);
+	}
+
+	// 💡 ETag가 붙은 ResponseEntity는 Spring이 If-None-Match와 비교해 일치하면 본문 없이 304로 응답합니다.
+	//    Accept에 따라 JSON/CBOR/Smile을, Accept-Encoding에 gzip이 있으면 미리 압축해 둔 본문을 내려줍니다.
+	//    (이미 Content-Encoding이 붙은 응답은 서버의 server.compression이 다시 압축하지 않습니다)
+	private static ResponseEntity<byte[]> toCachedResponse(JsonResponseCache.CachedJson cached, String accept,
+		String acceptEncoding) {
+		JsonResponseCache.Format format = negotiateFormat(accept);
+		JsonResponseCache.Encoded encoded = cached.variant(format, acceptsGzip(acceptEncoding));
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+			.eTag(encoded.etag())
+			.varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+			.contentType(MediaType.parseMediaType(format.mediaType()));
+		if (encoded.contentEncoding() != null) {
+			builder.header(HttpHeaders.CONTENT_ENCODING, encoded.contentEncoding());
+		}
+		return builder.body(encoded.body());
+	}
+
+	// 💡 품질값(q)이 높은 순서로 보고 처음 지원하는 형식을 고릅니다. 와일드카드나 알 수 없는 헤더는 기존처럼 JSON입니다.
+	private static JsonResponseCache.Format negotiateFormat(String accept) {
+		if (accept == null || accept.isBlank()) {
+			return JsonResponseCache.Format.JSON;
+		}
+		List<MediaType> mediaTypes;
+		try {
+			mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+		} catch (InvalidMediaTypeException e) {
+			return JsonResponseCache.Format.JSON;
+		}
+		mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+		for (MediaType mediaType : mediaTypes) {
+			if (mediaType.getQualityValue() <= 0) {
+				continue;
+			}
+			if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+				return JsonResponseCache.Format.JSON;
+			}
+			for (JsonResponseCache.Format format : JsonResponseCache.Format.values()) {
+				if (mediaType.equalsTypeAndSubtype(MediaType.parseMediaType(format.mediaType()))) {
+					return format;
+				}
+			}
+		}
+		return JsonResponseCache.Format.JSON;
 	}
 
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String token : acceptEncoding.split(",")) {
+			String[] parts = token.trim().split(";");
+			String coding = parts[0].trim();
+			if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+				continue;
+			}
+			// "gzip;q=0"은 명시적인 거부입니다.
+			boolean refused = parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+			if (!refused) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 💡 멱등 키는 본문의 idempotencyKey 또는 Idempotency-Key 헤더로 받습니다.
+	//    이미 처리한 키의 재전송이면 기록하지 않고 똑같이 204로 응답합니다. (Idempotent-Replayed: true 헤더)
 	@PostMapping("/worldcup/{worldcupId}/select")
-	@ResponseStatus(HttpStatus.NO_CONTENT) // 💡 204 No Content를 명시적으로 지정
-	public void recordSelection(@PathVariable Long worldcupId, @RequestBody SelectionRequest request) {
+	public ResponseEntity<Void> recordSelection(@PathVariable Long worldcupId, @RequestBody SelectionRequest request,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKeyHeader) {
 
 		// winnerId와 loserId, 그리고 현재 라운드를 받습니다.
 		if (request.getWinnerId() == null || request.getLoserId() == null) {
 			throw new IllegalArgumentException("선택된 후보 정보가 필요합니다.");
 		}
 
-		worldcupService.recordSelection(worldcupId, request.getWinnerId(), request.getLoserId(), request.getRound(), request.getUserId());
+		String idempotencyKey = (request.getIdempotencyKey() != null) ? request.getIdempotencyKey() : idempotencyKeyHeader;
+		boolean recorded = worldcupService.recordSelection(worldcupId, request.getWinnerId(), request.getLoserId(),
+			request.getRound(), request.getUserId(), idempotencyKey);
+
+		// 응답 본문 없이 204 No Content만 반환합니다.
+		return recorded
+			? ResponseEntity.noContent().build()
+			: ResponseEntity.noContent().header("Idempotent-Replayed", "true").build();
+	}
+
+	/**
+	 * POST /api/worldcup/{worldcupId}/session : 토너먼트를 시작하고 서버가 섞은 대진표를 받습니다.
+	 */
+	@PostMapping("/worldcup/{worldcupId}/session")
+	@ResponseStatus(HttpStatus.CREATED)
+	public TournamentStartResponse startTournament(@PathVariable Long worldcupId, @RequestBody TournamentStartRequest request) {
+		TournamentService.StartedSession session = tournamentService.start(worldcupId, request.getUserId());
+		return new TournamentStartResponse(session.token(), session.bracket());
+	}
 
-		// 응답 본문 없이 200 OK만 반환합니다.
+	/**
+	 * POST /api/worldcup/{worldcupId}/session/{sessionToken} : 한 판 동안의 선택 전체를 한 번에 제출합니다.
+	 */
+	@PostMapping("/worldcup/{worldcupId}/session/{sessionToken}")
+	public TournamentSubmitResponse submitTournament(@PathVariable Long worldcupId, @PathVariable String sessionToken,
+		@RequestBody TournamentSubmitRequest request) {
+		long winnerId = tournamentService.submit(worldcupId, sessionToken, request.getPicks());
+		return new TournamentSubmitResponse(winnerId);
 	}
 
 	/**
@@ -70,6 +224,19 @@ public class WorldcupController {
 		return worldcupService.findCommentsByWorldcup(worldcupId);
 	}
 
+	/**
+	 * GET /api/result/{id}/comments?size=20&cursor=... : 댓글을 커서 기반으로 한 페이지씩 조회합니다.
+	 * 💡 size 파라미터가 있으면 페이지 조회, 없으면 기존처럼 전체 목록을 반환합니다.
+	 */
+	@GetMapping(value = "/result/{worldcupId}/comments", params = "size")
+	public CommentPageResponse getCommentPage(
+		@PathVariable Long worldcupId,
+		@RequestParam int size,
+		@RequestParam(required = false) String cursor
+	) {
+		return worldcupService.findCommentPage(worldcupId, cursor, size);
+	}
+
 	/**
 	 * POST /api/result/{id}/comments : 댓글을 작성합니다.
 	 */
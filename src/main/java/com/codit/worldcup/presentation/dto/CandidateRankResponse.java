@@ -11,5 +11,6 @@ public class CandidateRankResponse {
 	private String name;
 	private int winCount;
 	private int totalSelectionCount;
+	private long approximateDistinctWinners; // 1등으로 뽑은 고유 사용자 수 (HyperLogLog 근사값, 약 3% 오차)
 	private List<String> topWinnerNicknames;
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CommentPageResponse {
+	private List<CommentResponse> comments;
+	private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+}
@@ -0,0 +1,14 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImageProcessingStatusResponse {
+	private int queued;     // 대기 중인 작업 수
+	private int active;     // 처리 중인 작업 수
+	private long completed; // 완료된 작업 수 (누적)
+	private long failed;    // 실패한 작업 수 (누적)
+	private long rejected;  // 큐가 가득 차 건너뛴 작업 수 (누적)
+}
@@ -0,0 +1,15 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PurgeProgressResponse {
+	private Long worldcupId;
+	private String phase;             // USER_RESULTS, COMMENTS, CANDIDATES, VOTER_SKETCHES, WORLDCUP, DONE
+	private long deletedUserResults;  // 삭제된 결과 행 수
+	private long deletedComments;     // 삭제된 댓글 수
+	private long deletedCandidates;   // 삭제된 후보 수
+	private long deletedVoterSketches; // 삭제된 고유 투표자 스케치 수
+}
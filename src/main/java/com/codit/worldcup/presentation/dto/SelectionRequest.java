@@ -10,4 +10,5 @@ public class SelectionRequest {
 	private Long loserId;  // 사용자가 선택하지 않은 후보 ID
 	private int round;     // 현재 라운드 (프론트엔드에서 계산되어 넘어옴)
 	private Long userId;
+	private String idempotencyKey; // 재시도/중복 클릭 구분용 (같은 선택이면 같은 값을 보냄, 선택 사항)
 }
\ No newline at end of file
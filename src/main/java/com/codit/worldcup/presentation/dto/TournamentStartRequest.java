@@ -0,0 +1,10 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TournamentStartRequest {
+	private Long userId;
+}
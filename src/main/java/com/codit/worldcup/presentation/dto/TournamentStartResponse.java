@@ -0,0 +1,11 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TournamentStartResponse {
+	private String sessionToken; // 결과 제출 시 사용할 세션 토큰
+	private long[] bracket;      // 서버가 섞은 대진 순서 (후보 ID)
+}
@@ -0,0 +1,10 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class TournamentSubmitRequest {
+	private long[] picks; // 대결 순서대로 선택한 후보 ID (부전승 제외)
+}
@@ -0,0 +1,10 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TournamentSubmitResponse {
+	private Long winnerId; // 최종 우승 후보 ID
+}
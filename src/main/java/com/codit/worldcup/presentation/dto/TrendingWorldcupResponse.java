@@ -0,0 +1,14 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TrendingWorldcupResponse {
+	private Long id;
+	private String title;
+	private String thumbnailUrl;
+	private long recentSelections; // 요청한 창(예: 최근 1시간) 안의 선택 수
+	private double score;          // 최근 선택일수록 가중치를 크게 준 인기 점수
+}
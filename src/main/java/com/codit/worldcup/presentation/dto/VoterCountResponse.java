@@ -0,0 +1,11 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class VoterCountResponse {
+	private String worldcupId;               // 월드컵 ID 또는 'all'
+	private long approximateDistinctVoters;  // 고유 사용자 수 (HyperLogLog 근사값)
+}
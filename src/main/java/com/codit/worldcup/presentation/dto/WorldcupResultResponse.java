@@ -8,6 +8,7 @@ import java.util.List;
 @AllArgsConstructor
 public class WorldcupResultResponse {
 	private WinnerCandidateDto winner; // 최종 우승 후보 상세 정보
+	private long approximateDistinctWinners; // 해당 후보를 1등으로 뽑은 고유 사용자 수 (근사값)
 	private List<String> topWinnerNicknames; // 해당 후보를 1등으로 뽑은 사용자 닉네임 목록
 
 	@Getter
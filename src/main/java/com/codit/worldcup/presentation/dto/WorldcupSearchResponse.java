@@ -0,0 +1,21 @@
+package com.codit.worldcup.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class WorldcupSearchResponse {
+	private List<HitDto> hits; // 점수 순 검색 결과 (요청한 구간)
+	private int total;         // 전체 일치 건수
+
+	@Getter
+	@AllArgsConstructor
+	public static class HitDto {
+		private Long id;
+		private String title;
+		private String thumbnailUrl;
+		private List<String> matchedCandidates; // 검색어와 일치한 후보 이름 (최대 3개)
+	}
+}
@@ -453,6 +453,7 @@ export async function renderRankScreen(worldcupId) {
                         <th>후보 이름</th>
                         <th>1등 횟수</th>
                         <th>총 클릭 수</th>
+                        <th>1등으로 뽑은 사용자 수(약)</th>
                         <th>이 후보를 선택한 사용자의 닉네임</th>
                     </tr>
                 </thead>
@@ -466,6 +467,7 @@ export async function renderRankScreen(worldcupId) {
                     <td>${item.name}</td>
                     <td>${item.winCount}</td>
                     <td>${item.totalSelectionCount}</td>
+                    <td>${item.approximateDistinctWinners}</td>
                     <td>${item.topWinnerNicknames.join(', ')}</td>
                 </tr>
             `;
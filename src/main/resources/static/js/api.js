@@ -76,6 +76,11 @@ export async function fetchWorldcupList() {
     return apiGet('/main');
 }
 
+// 💡 최근 선택이 많은 월드컵 (window: 1h, 24h)
+export async function fetchTrendingWorldcups(window = '24h', limit = 50) {
+    return apiGet(`/main/trending?window=${window}&limit=${limit}`);
+}
+
 // 💡 PUT 요청을 처리하는 함수 추가 (apiPost와 유사)
 export async function apiPut(path, data) {
     try {
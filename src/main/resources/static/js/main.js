@@ -1,4 +1,4 @@
-import { fetchWorldcupList } from './api.js';
+import { fetchWorldcupList, fetchTrendingWorldcups } from './api.js';
 import { currentUser } from './login.js';
 
 const app = document.getElementById('app');
@@ -23,7 +23,12 @@ export async function renderMainScreen() {
         userInfoDiv.querySelector('strong').classList.add('admin-nickname');
     }
 
-    const worldcups = await fetchWorldcupList();
+    const [allWorldcups, trending] = await Promise.all([fetchWorldcupList(), fetchTrendingWorldcups()]);
+
+    // 💡 최근 24시간 동안 많이 진행된 월드컵을 앞에 보여주고, 나머지는 기존 순서를 유지합니다.
+    const trendRank = new Map((trending || []).map((wc, index) => [wc.id, index]));
+    const worldcups = (allWorldcups || []).slice().sort((a, b) =>
+        (trendRank.get(a.id) ?? Number.MAX_SAFE_INTEGER) - (trendRank.get(b.id) ?? Number.MAX_SAFE_INTEGER));
 
     app.innerHTML = ''; // 기존 콘텐츠 지우기
 
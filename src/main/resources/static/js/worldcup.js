@@ -12,6 +12,9 @@ let currentRound = 0;
 let worldcupId = null;
 let byeCandidate = null; //부전승 처리를 위해
 let roundCounter = 0; //현재 진행중인 대결 횟수 기록
+let matchIndex = 0; // 현재 라운드에서 다음 대결 후보의 위치
+let sessionToken = null; // 서버 토너먼트 세션 토큰
+let picks = []; // 대결 순서대로 선택한 후보 ID (한 판이 끝나면 한 번에 제출)
 
 /**
  * 특정 월드컵을 초기화하고 첫 라운드를 시작합니다.
@@ -25,13 +28,21 @@ export async function renderWorldcupScreen(id) {
         app.innerHTML = '<p class="error">월드컵 데이터를 불러오거나 후보가 부족합니다.</p>';
         return;
     }
+    // 💡 대진표는 서버가 섞어서 내려줍니다. (POST /api/worldcup/{id}/session)
+    const session = await apiPost(`/worldcup/${worldcupId}/session`, { userId: currentUser.userId });
+    if (!session || !session.bracket) {
+        app.innerHTML = '<p class="error">월드컵을 시작할 수 없습니다.</p>';
+        return;
+    }
+
     // 초기화 및 라운드 설정
     candidates = data.candidates;
-    roundCandidates = [...candidates];
+    const candidateById = new Map(candidates.map(c => [c.id, c]));
+    roundCandidates = session.bracket.map(id => candidateById.get(id));
     winners = [];
-
-    // 후보 목록을 무작위로 섞습니다.
-    shuffleArray(roundCandidates);
+    picks = [];
+    sessionToken = session.sessionToken;
+    matchIndex = 0;
 
     // 💡 초기 부전승 결정 로직 제거 (전체 후보 수를 유지해야 합니다.)
     byeCandidate = null;
@@ -50,34 +61,23 @@ function findInitialRound(count) {
     return round;
 }
 
-/**
- * 배열을 무작위로 섞습니다. (Fisher-Yates 알고리즘)
- */
-function shuffleArray(array) {
-    for (let i = array.length - 1; i > 0; i--) {
-        const j = Math.floor(Math.random() * (i + 1));
-        [array[i], array[j]] = [array[j], array[i]];
-    }
-}
-
 /**
  * 다음 라운드 또는 다음 대결을 시작합니다.
  */
 function startNextRound() {
-    // 1. 🏁 라운드 종료 처리 (기존과 동일)
-    if (roundCandidates.length === 0) {
+    // 1. 🏁 라운드 종료 처리
+    if (matchIndex >= roundCandidates.length) {
 
         // 1-1. 최종 우승자 결정
         if (winners.length === 1) {
-            const finalWinner = winners[0];
-            window.location.hash = `#result/${worldcupId}/${finalWinner.id}`;
+            submitTournament(winners[0]);
             return;
         }
 
-        // 1-2. 다음 라운드 준비
+        // 1-2. 다음 라운드 준비 (💡 서버 검증 규칙과 맞추기 위해 승자 순서를 그대로 유지)
         roundCandidates = winners;
         winners = [];
-        shuffleArray(roundCandidates);
+        matchIndex = 0;
 
         // 다음 라운드의 강 수 재설정
         currentRound = findInitialRound(roundCandidates.length);
@@ -86,9 +86,10 @@ function startNextRound() {
 
     // 💡 [수정됨] 로직 순서 변경: 대결 가능한 후보가 2명 이상인지 먼저 확인
     // 2. ⚔️ 일반 대결 처리 (후보가 2명 이상 남아있다면 무조건 대결)
-    if (roundCandidates.length >= 2) {
-        const candidate1 = roundCandidates.pop();
-        const candidate2 = roundCandidates.pop();
+    if (roundCandidates.length - matchIndex >= 2) {
+        const candidate1 = roundCandidates[matchIndex];
+        const candidate2 = roundCandidates[matchIndex + 1];
+        matchIndex += 2;
 
         roundCounter++; // 대결 카운트 증가
         renderMatch(candidate1, candidate2);
@@ -97,8 +98,8 @@ function startNextRound() {
 
     // 💡 [수정됨] 2명씩 짝을 짓고 나서 딱 1명이 남았을 때 부전승 처리
     // 3. 🛡️ 부전승(Bye) 처리 (남은 후보가 1명일 때)
-    if (roundCandidates.length === 1) {
-        const byeCandidate = roundCandidates.pop();
+    if (roundCandidates.length - matchIndex === 1) {
+        const byeCandidate = roundCandidates[matchIndex++];
 
         // 부전승 전용 렌더링 함수 호출
         renderByeMatch(byeCandidate);
@@ -196,16 +197,8 @@ function renderMatch(c1, c2) {
 async function handleSelection(selectedId, c1, c2) {
 
     const winnerCandidate = (c1.id.toString() === selectedId) ? c1 : c2;
-    const loserCandidate = (c1.id.toString() !== selectedId) ? c1 : c2;
-    // 1. 백엔드에 선택 기록 저장 (클릭 수 및 1등 횟수 집계용)
-    // POST /api/worldcup/{id}/select
-    await apiPost(`/worldcup/${worldcupId}/select`, {
-        winnerId: winnerCandidate.id,
-        loserId: loserCandidate.id,
-        round: currentRound,
-        userId: currentUser.userId
-
-    });
+    // 1. 선택 기록 (💡 대결마다 서버에 보내지 않고, 한 판이 끝나면 한 번에 제출합니다.)
+    picks.push(winnerCandidate.id);
 
     // 2. 현재 라운드 승자 목록에 추가
     winners.push(winnerCandidate);
@@ -213,4 +206,18 @@ async function handleSelection(selectedId, c1, c2) {
     // 3. 다음 라운드 진행
     startNextRound();
 
-}
\ No newline at end of file
+}
+
+/**
+ * 한 판 동안의 선택을 서버에 한 번에 제출하고 결과 화면으로 이동합니다.
+ * POST /api/worldcup/{id}/session/{token}
+ * @param {object} finalWinner - 최종 우승 후보 객체
+ */
+async function submitTournament(finalWinner) {
+    const result = await apiPost(`/worldcup/${worldcupId}/session/${sessionToken}`, { picks });
+    if (!result) {
+        app.innerHTML = '<p class="error">결과를 저장하지 못했습니다.</p>';
+        return;
+    }
+    window.location.hash = `#result/${worldcupId}/${finalWinner.id}`;
+}
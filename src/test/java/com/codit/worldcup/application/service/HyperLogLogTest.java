@@ -0,0 +1,61 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * HyperLogLog 추정 오차와 병합(합집합) 동작을 확인합니다.
+ */
+class HyperLogLogTest {
+
+	@Test
+	void estimatesWithinExpectedError() {
+		for (int distinct : new int[] {10, 1_000, 100_000}) {
+			HyperLogLog sketch = new HyperLogLog();
+			for (long userId = 1; userId <= distinct; userId++) {
+				sketch.add(userId);
+				sketch.add(userId); // 중복은 세지 않음
+			}
+			double error = Math.abs(sketch.estimate() - distinct) / (double)distinct;
+			assertTrue(error < 0.1, distinct + "개 추정 오차: " + error);
+		}
+	}
+
+	@Test
+	void mergeCountsUnionOnce() {
+		HyperLogLog first = new HyperLogLog();
+		HyperLogLog second = new HyperLogLog();
+		for (long userId = 1; userId <= 20_000; userId++) {
+			first.add(userId);
+		}
+		for (long userId = 10_001; userId <= 30_000; userId++) {
+			second.add(userId);
+		}
+
+		HyperLogLog union = HyperLogLog.fromBytes(first.toBytes()).merge(second);
+		double error = Math.abs(union.estimate() - 30_000) / 30_000.0;
+		assertTrue(error < 0.1, "합집합 추정 오차: " + error);
+
+		// 같은 스케치를 다시 병합해도 결과가 바뀌지 않음
+		byte[] before = union.toBytes();
+		union.merge(second).merge(first);
+		assertArrayEquals(before, union.toBytes());
+	}
+
+	@Test
+	void restoresFromStoredRegisters() {
+		HyperLogLog sketch = new HyperLogLog();
+		for (long userId = 1; userId <= 500; userId++) {
+			sketch.add(userId);
+		}
+		HyperLogLog restored = HyperLogLog.fromBytes(sketch.toBytes());
+
+		assertEquals(sketch.estimate(), restored.estimate());
+		assertFalse(restored.add(1L));
+		assertEquals(HyperLogLog.REGISTER_COUNT, restored.toBytes().length);
+	}
+}
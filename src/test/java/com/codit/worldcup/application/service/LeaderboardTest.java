@@ -0,0 +1,181 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.codit.worldcup.application.service.Leaderboard.RankEntry;
+import com.codit.worldcup.application.service.Leaderboard.RankTree;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+
+/**
+ * 랭킹 트리(treap)의 정렬/구간 조회/갱신과 Leaderboard 재적재 동작을 확인합니다.
+ */
+class LeaderboardTest {
+
+	@Test
+	void ordersByWinsThenSelectionsThenNameThenId() {
+		Map<Long, RankEntry> source = new HashMap<>();
+		RankTree tree = new RankTree(source::get);
+		put(source, tree, new RankEntry(1L, 1L, "B", 3, 10));
+		put(source, tree, new RankEntry(2L, 1L, "A", 3, 10)); // 1등/선택 횟수가 같으면 이름순
+		put(source, tree, new RankEntry(3L, 1L, "C", 5, 1));  // 1등 횟수가 우선
+		put(source, tree, new RankEntry(4L, 1L, "D", 3, 20)); // 1등 횟수가 같으면 선택 횟수 내림차순
+		put(source, tree, new RankEntry(5L, 1L, "A", 3, 10)); // 이름까지 같으면 ID순
+
+		assertEquals(List.of(3L, 4L, 2L, 5L, 1L), ids(tree.page(0, 10)));
+	}
+
+	@Test
+	void pageRespectsOffsetAndLimit() {
+		Map<Long, RankEntry> source = new HashMap<>();
+		RankTree tree = new RankTree(source::get);
+		for (long id = 1; id <= 10; id++) {
+			put(source, tree, new RankEntry(id, 1L, "후보", (int) (100 - id), 0)); // ID 순서가 곧 순위
+		}
+
+		assertEquals(List.of(1L, 2L, 3L), ids(tree.page(0, 3)));
+		assertEquals(List.of(4L, 5L, 6L, 7L), ids(tree.page(3, 4)));
+		assertEquals(List.of(9L, 10L), ids(tree.page(8, 5)));
+		assertEquals(List.of(), tree.page(10, 5));
+		assertEquals(List.of(), tree.page(50, 5));
+		assertEquals(10, tree.page(0, Integer.MAX_VALUE).size());
+		assertEquals(10, tree.size());
+	}
+
+	@Test
+	void changedEntriesMoveAndRemovedEntriesDisappear() {
+		Map<Long, RankEntry> source = new HashMap<>();
+		RankTree tree = new RankTree(source::get);
+		put(source, tree, new RankEntry(1L, 1L, "A", 2, 2));
+		put(source, tree, new RankEntry(2L, 1L, "B", 1, 1));
+		put(source, tree, new RankEntry(3L, 1L, "C", 0, 0));
+
+		put(source, tree, new RankEntry(3L, 1L, "C", 5, 5));
+		assertEquals(List.of(3L, 1L, 2L), ids(tree.page(0, 10)));
+
+		source.remove(1L);
+		tree.markChanged(1L);
+		assertEquals(List.of(3L, 2L), ids(tree.page(0, 10)));
+		assertEquals(2, tree.size());
+
+		// 같은 변경을 여러 번 알려도 한 번만 들어 있습니다.
+		tree.markChanged(2L);
+		tree.markChanged(2L);
+		assertEquals(List.of(3L, 2L), ids(tree.page(0, 10)));
+	}
+
+	@Test
+	void matchesSortedListAfterRandomUpdates() {
+		Map<Long, RankEntry> source = new HashMap<>();
+		RankTree tree = new RankTree(source::get);
+		Random random = new Random(42);
+		for (int step = 0; step < 5_000; step++) {
+			long id = random.nextInt(300);
+			if (random.nextInt(10) == 0) {
+				source.remove(id);
+				tree.markChanged(id);
+			} else {
+				put(source, tree, new RankEntry(id, 1L, "후보 " + random.nextInt(20), random.nextInt(10), random.nextInt(50)));
+			}
+		}
+
+		List<RankEntry> expected = new ArrayList<>(source.values());
+		expected.sort(Leaderboard.RANK_ORDER);
+		assertEquals(expected, tree.page(0, Integer.MAX_VALUE));
+		assertEquals(expected.subList(37, 37 + 25), tree.page(37, 25));
+	}
+
+	@Test
+	void rebuildKeepsSelectionsRecordedWhileLoading() {
+		List<CandidateRankRow> rows = List.of(
+			new CandidateRankRow(1L, 10L, "A", 5, 50),
+			new CandidateRankRow(2L, 10L, "B", 1, 10));
+		Leaderboard[] holder = new Leaderboard[1];
+		// 💡 DB에서 읽는 도중에 선택이 들어온 상황을 흉내 냅니다.
+		Leaderboard leaderboard = new Leaderboard(repository(() -> rows.stream().peek(row -> {
+			if (row.id() == 2L) {
+				holder[0].increment(2L, true);
+				holder[0].increment(2L, false);
+			}
+		})), transactionManager(), true, 100);
+		holder[0] = leaderboard;
+
+		leaderboard.rebuild(); // 처음 적재: 이전 State가 비어 있으므로 선택은 새 State로 옮겨 담길 때만 반영됨
+		assertEquals(new RankEntry(2L, 10L, "B", 2, 12), leaderboard.entry(2L));
+		assertEquals(List.of(1L, 2L), ids(leaderboard.page(10L, 0, 10)));
+		assertEquals(List.of(1L, 2L), ids(leaderboard.page(null, 0, 10)));
+
+		leaderboard.rebuild(); // 다시 적재해도 DB 값 + 적재 중 선택
+		assertEquals(new RankEntry(2L, 10L, "B", 2, 12), leaderboard.entry(2L));
+	}
+
+	@Test
+	void removeWorldcupDropsItsCandidates() {
+		List<CandidateRankRow> rows = List.of(
+			new CandidateRankRow(1L, 10L, "A", 5, 50),
+			new CandidateRankRow(2L, 20L, "B", 1, 10));
+		Leaderboard leaderboard = new Leaderboard(repository(rows::stream), transactionManager(), true, 100);
+		leaderboard.rebuild();
+
+		leaderboard.removeWorldcup(10L);
+		assertNull(leaderboard.entry(1L));
+		assertTrue(leaderboard.page(10L, 0, 10).isEmpty());
+		assertEquals(List.of(2L), ids(leaderboard.page(null, 0, 10)));
+
+		leaderboard.increment(1L, true); // 없는 후보의 선택은 무시
+		assertNull(leaderboard.entry(1L));
+	}
+
+	private static void put(Map<Long, RankEntry> source, RankTree tree, RankEntry entry) {
+		source.put(entry.candidateId(), entry);
+		tree.markChanged(entry.candidateId());
+	}
+
+	private static List<Long> ids(List<RankEntry> entries) {
+		return entries.stream().map(RankEntry::candidateId).toList();
+	}
+
+	private static CandidateRepository repository(Supplier<Stream<CandidateRankRow>> rows) {
+		return (CandidateRepository) Proxy.newProxyInstance(CandidateRepository.class.getClassLoader(),
+			new Class<?>[] {CandidateRepository.class}, (proxy, method, args) -> {
+				if (method.getName().equals("streamRankRows")) {
+					return rows.get();
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	private static PlatformTransactionManager transactionManager() {
+		return new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+			}
+		};
+	}
+}
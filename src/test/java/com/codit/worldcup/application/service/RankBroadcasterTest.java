@@ -0,0 +1,211 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.codit.worldcup.application.service.RankBroadcaster.Frame;
+import com.codit.worldcup.application.service.RankBroadcaster.RankedRow;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 랭킹 스트림: 구독 시 snapshot, 이후 바뀐 행과 상위권에서 빠진 후보만 담은 delta, 변화가 없으면 프레임 없음,
+ * 없는 월드컵/구독자 수 초과 거절을 확인합니다.
+ */
+class RankBroadcasterTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().build();
+	private final Leaderboard leaderboard = new Leaderboard(repository(List.of(
+		new CandidateRankRow(1L, 10L, "A", 5, 50),
+		new CandidateRankRow(2L, 10L, "B", 3, 30),
+		new CandidateRankRow(3L, 10L, "C", 1, 10),
+		new CandidateRankRow(4L, 20L, "D", 9, 90))), transactionManager(), true, 100);
+
+	RankBroadcasterTest() {
+		leaderboard.rebuild();
+	}
+
+	@Test
+	void snapshotThenDeltaWithOnlyChangedRows() throws InterruptedException {
+		RankBroadcaster broadcaster = broadcaster(3);
+		CapturingEmitter emitter = (CapturingEmitter) broadcaster.subscribe(10L);
+
+		Received snapshot = next(emitter);
+		assertEquals("snapshot", snapshot.type());
+		assertEquals(new Frame("10", 0, List.of(
+			new RankedRow(1, 1L, "A", 5, 50),
+			new RankedRow(2, 2L, "B", 3, 30),
+			new RankedRow(3, 3L, "C", 1, 10)), List.of()), snapshot.frame());
+
+		leaderboard.increment(3L, false); // 순위는 그대로, C의 선택 횟수만 변경
+		broadcaster.markChanged(10L);
+		broadcaster.tick();
+
+		Received delta = next(emitter);
+		assertEquals("delta", delta.type());
+		assertEquals(new Frame("10", 1, List.of(new RankedRow(3, 3L, "C", 1, 11)), List.of()), delta.frame());
+		broadcaster.shutdown();
+	}
+
+	@Test
+	void deltaReportsCandidatesLeavingTop() throws InterruptedException {
+		RankBroadcaster broadcaster = broadcaster(2);
+		CapturingEmitter emitter = (CapturingEmitter) broadcaster.subscribe(10L);
+		assertEquals(List.of(1L, 2L), candidateIds(next(emitter).frame().rows()));
+
+		for (int i = 0; i < 5; i++) {
+			leaderboard.increment(3L, true); // C: 1등 6회로 1위
+		}
+		broadcaster.markChanged(10L);
+		broadcaster.tick();
+
+		Frame delta = next(emitter).frame();
+		List<RankedRow> rows = new ArrayList<>(delta.rows());
+		rows.sort(Comparator.comparingInt(RankedRow::rank));
+		assertEquals(List.of(new RankedRow(1, 3L, "C", 6, 15), new RankedRow(2, 1L, "A", 5, 50)), rows);
+		assertEquals(List.of(2L), delta.removed());
+		broadcaster.shutdown();
+	}
+
+	@Test
+	void sendsNothingWhenRankingIsUnchanged() throws InterruptedException {
+		RankBroadcaster broadcaster = broadcaster(3);
+		CapturingEmitter emitter = (CapturingEmitter) broadcaster.subscribe(10L);
+		next(emitter);
+
+		broadcaster.markChanged(10L);
+		broadcaster.markChanged(20L); // 구독자가 없는 월드컵
+		broadcaster.tick();
+
+		assertNull(emitter.sent.poll(200, TimeUnit.MILLISECONDS));
+		broadcaster.shutdown();
+	}
+
+	@Test
+	void allChannelFollowsEveryWorldcup() throws InterruptedException {
+		RankBroadcaster broadcaster = broadcaster(2);
+		CapturingEmitter emitter = (CapturingEmitter) broadcaster.subscribe(null);
+
+		Frame snapshot = next(emitter).frame();
+		assertEquals("all", snapshot.worldcupId());
+		assertEquals(List.of(4L, 1L), candidateIds(snapshot.rows()));
+
+		leaderboard.increment(4L, false);
+		broadcaster.markChanged(20L);
+		broadcaster.tick();
+
+		assertEquals(new Frame("all", 1, List.of(new RankedRow(1, 4L, "D", 9, 91)), List.of()), next(emitter).frame());
+		broadcaster.shutdown();
+	}
+
+	@Test
+	void rejectsUnknownWorldcupAndSubscribersOverLimit() {
+		RankBroadcaster broadcaster = broadcaster(3, 2);
+		assertThrows(WorldcupNotFoundException.class, () -> broadcaster.subscribe(99L));
+
+		broadcaster.subscribe(10L);
+		broadcaster.subscribe(null);
+		assertThrows(TooManyRankSubscribersException.class, () -> broadcaster.subscribe(20L));
+
+		leaderboard.removeWorldcup(20L); // 삭제된 월드컵
+		assertThrows(WorldcupNotFoundException.class, () -> broadcaster.subscribe(20L));
+		broadcaster.shutdown();
+	}
+
+	private RankBroadcaster broadcaster(int topSize) {
+		return broadcaster(topSize, 100);
+	}
+
+	private RankBroadcaster broadcaster(int topSize, int maxSubscribers) {
+		return new RankBroadcaster(leaderboard, objectMapper, new SimpleMeterRegistry(), topSize, 16, 60_000, 60_000, maxSubscribers) {
+			@Override
+			SseEmitter newEmitter() {
+				return new CapturingEmitter();
+			}
+		};
+	}
+
+	// 전송은 가상 스레드에서 일어나므로 프레임이 도착할 때까지 기다립니다.
+	private Received next(CapturingEmitter emitter) throws InterruptedException {
+		String event = emitter.sent.poll(5, TimeUnit.SECONDS);
+		assertNotNull(event, "프레임이 전송되지 않았습니다.");
+		String type = null;
+		String data = null;
+		for (String line : event.split("\n")) {
+			if (line.startsWith("event:")) {
+				type = line.substring("event:".length());
+			} else if (line.startsWith("data:")) {
+				data = line.substring("data:".length());
+			}
+		}
+		return new Received(type, objectMapper.readValue(data, Frame.class));
+	}
+
+	private static List<Long> candidateIds(List<RankedRow> rows) {
+		return rows.stream().map(RankedRow::candidateId).toList();
+	}
+
+	private record Received(String type, Frame frame) {
+	}
+
+	private static final class CapturingEmitter extends SseEmitter {
+		private final BlockingQueue<String> sent = new LinkedBlockingQueue<>();
+
+		@Override
+		public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+			StringBuilder event = new StringBuilder();
+			items.forEach(item -> event.append(item.getData()));
+			sent.add(event.toString());
+		}
+	}
+
+	private static CandidateRepository repository(List<CandidateRankRow> rows) {
+		return (CandidateRepository) Proxy.newProxyInstance(CandidateRepository.class.getClassLoader(),
+			new Class<?>[] {CandidateRepository.class}, (proxy, method, args) -> {
+				if (method.getName().equals("streamRankRows")) {
+					return rows.stream();
+				}
+				throw new UnsupportedOperationException(method.getName());
+			});
+	}
+
+	private static PlatformTransactionManager transactionManager() {
+		return new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+			}
+		};
+	}
+}
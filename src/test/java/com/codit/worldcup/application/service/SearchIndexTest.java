@@ -0,0 +1,154 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.codit.worldcup.domain.entity.Worldcup;
+import com.codit.worldcup.domain.repository.CandidateRankRow;
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 검색 색인: 여러 단어 검색(모든 단어 일치), 초성 검색, 점수 순서, 페이지, 문서 교체/삭제, 재구성 중 갱신 보존과 검색어 검증을 확인합니다.
+ */
+class SearchIndexTest {
+
+	private final SearchIndex index = new SearchIndex(null, null, null);
+
+	SearchIndexTest() {
+		put(1L, "아이돌 월드컵", List.of("카리나", "윈터"));
+		put(2L, "음식 월드컵", List.of("치킨", "피자"));
+		put(3L, "걸그룹 이상형", List.of("카리나", "장원영"));
+		put(4L, "치킨 대전", List.of("교촌", "BBQ"));
+	}
+
+	@Test
+	void everyTermMustMatchTitleOrCandidate() {
+		SearchIndex.Page page = index.search("카리나 월드컵", 0, 10);
+		assertEquals(List.of(1L), ids(page));
+		assertEquals(1, page.total());
+		assertEquals(List.of("카리나"), page.hits().get(0).matchedCandidates());
+
+		// 단어 순서, 대소문자, 여러 칸 공백은 무관
+		assertEquals(List.of(4L), ids(index.search("  bbq   치킨 ", 0, 10)));
+		assertEquals(List.of(), ids(index.search("카리나 피자", 0, 10)));
+	}
+
+	@Test
+	void choseongOnlyQueryMatchesInitialConsonants() {
+		assertEquals(List.of(1L), ids(index.search("ㅇㅇㄷ", 0, 10)));
+		assertEquals(List.of(3L), ids(index.search("ㅇㅅㅎ", 0, 10)));
+		assertEquals(List.of(3L, 1L), ids(index.search("ㅋㄹㄴ", 0, 10))); // 후보 이름 초성 (동점이면 최신 순)
+		assertEquals(List.of(1L), ids(index.search("ㅋㄹㄴ ㅇㄷ", 0, 10))); // 초성 단어끼리도 모두 일치해야 함
+		assertEquals(List.of(), ids(index.search("ㅋㄹㅎ", 0, 10)));
+	}
+
+	@Test
+	void titleMatchRanksAboveCandidateMatch() {
+		assertEquals(List.of(4L, 2L), ids(index.search("치킨", 0, 10))); // 제목 접두 일치 > 후보 이름 일치
+		assertEquals(List.of(2L, 1L), ids(index.search("월드컵", 0, 10))); // 같은 점수면 최신 월드컵 먼저
+	}
+
+	@Test
+	void pagesThroughHits() {
+		SearchIndex.Page first = index.search("ㅇ", 0, 2);
+		assertEquals(2, first.hits().size());
+		SearchIndex.Page rest = index.search("ㅇ", 2, 10);
+		assertEquals(first.total(), first.hits().size() + rest.hits().size());
+		assertEquals(List.of(), index.search("ㅇ", first.total(), 10).hits());
+	}
+
+	@Test
+	void putReplacesAndRemoveDropsDocument() {
+		put(2L, "디저트 월드컵", List.of("마카롱"));
+		assertEquals(List.of(), ids(index.search("음식", 0, 10)));
+		assertEquals(List.of(4L), ids(index.search("치킨", 0, 10)));
+		assertEquals(List.of(2L), ids(index.search("마카롱", 0, 10)));
+
+		index.remove(2L);
+		assertEquals(List.of(), ids(index.search("디저트", 0, 10)));
+		assertEquals(List.of(1L), ids(index.search("월드컵", 0, 10)));
+	}
+
+	@Test
+	void rebuildKeepsUpdatesMadeWhileLoading() {
+		SearchIndex[] holder = new SearchIndex[1];
+		List<Worldcup> loaded = List.of(worldcup(10L, "축구 월드컵"), worldcup(11L, "야구 월드컵"));
+		// 💡 DB에서 읽는 도중에 월드컵 하나가 생성되고 하나가 삭제된 상황을 흉내 냅니다.
+		CandidateRepository candidateRepository = proxy(CandidateRepository.class, "streamRankRows",
+			() -> List.of(new CandidateRankRow(100L, 10L, "손흥민", 0, 0)).stream().peek(row -> {
+				holder[0].put(worldcup(12L, "농구 월드컵"), List.of("르브론"));
+				holder[0].remove(11L);
+			}));
+		WorldcupRepository worldcupRepository = proxy(WorldcupRepository.class, "findAllByDeletedFalse", () -> loaded);
+		SearchIndex rebuilt = new SearchIndex(worldcupRepository, candidateRepository, transactionManager());
+		holder[0] = rebuilt;
+
+		rebuilt.rebuild();
+		assertEquals(List.of(12L, 10L), ids(rebuilt.search("월드컵", 0, 10)));
+		assertEquals(List.of(10L), ids(rebuilt.search("손흥민", 0, 10)));
+		assertEquals(List.of(12L), ids(rebuilt.search("르브론", 0, 10)));
+
+		rebuilt.put(worldcup(13L, "배구 월드컵"), List.of()); // 재구성이 끝난 뒤의 갱신은 바로 반영
+		assertEquals(List.of(13L, 12L, 10L), ids(rebuilt.search("월드컵", 0, 10)));
+	}
+
+	@Test
+	void rejectsBlankOrTooLongQuery() {
+		assertThrows(IllegalArgumentException.class, () -> index.search(" ", 0, 10));
+		assertThrows(IllegalArgumentException.class, () -> index.search(null, 0, 10));
+		assertThrows(IllegalArgumentException.class, () -> index.search("가".repeat(51), 0, 10));
+	}
+
+	private void put(Long id, String title, List<String> candidateNames) {
+		index.put(worldcup(id, title), candidateNames);
+	}
+
+	private static Worldcup worldcup(Long id, String title) {
+		Worldcup worldcup = Worldcup.builder().title(title).thumbnailUrl("https://bucket/" + id + ".jpg").build();
+		ReflectionTestUtils.setField(worldcup, "id", id);
+		return worldcup;
+	}
+
+	private static List<Long> ids(SearchIndex.Page page) {
+		return page.hits().stream().map(SearchIndex.Hit::worldcupId).toList();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, String methodName, Supplier<Object> result) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			if (method.getName().equals(methodName)) {
+				return result.get();
+			}
+			throw new UnsupportedOperationException(method.getName());
+		});
+	}
+
+	private static PlatformTransactionManager transactionManager() {
+		return new PlatformTransactionManager() {
+			@Override
+			public TransactionStatus getTransaction(TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+			}
+		};
+	}
+}
@@ -0,0 +1,79 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 멱등 키 중복 확인: 재전송 차단, 실패한 요청의 재시도 허용, 동시 중복 요청 중 하나만 통과하는지 확인합니다.
+ */
+class SelectionDeduplicatorTest {
+
+	private final SelectionDeduplicator deduplicator =
+		new SelectionDeduplicator(new SimpleMeterRegistry(), 60, 100_000, 600, 10_000, 0.0001);
+
+	@Test
+	void rejectsReplayOfCompletedKey() {
+		assertTrue(deduplicator.tryAcquire("1:7:a"));
+		deduplicator.complete("1:7:a");
+
+		assertFalse(deduplicator.tryAcquire("1:7:a"));
+		assertTrue(deduplicator.tryAcquire("1:7:b"));
+	}
+
+	@Test
+	void releasedKeyCanBeRetried() {
+		assertTrue(deduplicator.tryAcquire("1:7:retry"));
+		deduplicator.release("1:7:retry");
+
+		assertTrue(deduplicator.tryAcquire("1:7:retry"));
+	}
+
+	@Test
+	void onlyOneOfConcurrentDuplicatesPasses() throws Exception {
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicInteger acquired = new AtomicInteger();
+		for (int i = 0; i < threads; i++) {
+			executor.execute(() -> {
+				try {
+					start.await();
+					if (deduplicator.tryAcquire("1:7:double-click")) {
+						acquired.incrementAndGet();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		start.countDown();
+		executor.shutdown();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+		assertEquals(1, acquired.get());
+	}
+
+	@Test
+	void distinctKeysAreAlmostNeverMistakenForDuplicates() {
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			String key = "1:7:" + i;
+			if (!deduplicator.tryAcquire(key)) {
+				falsePositives++;
+			}
+			deduplicator.complete(key);
+		}
+		assertTrue(falsePositives <= 5, "오탐 수: " + falsePositives);
+	}
+}
@@ -0,0 +1,106 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.codit.worldcup.benchmark.BenchmarkConfig;
+import com.codit.worldcup.benchmark.BenchmarkSeeder;
+
+/**
+ * 토너먼트 제출이 실제 DB(user_result)까지 기록되는지, 사용자 없는 시작과 삭제된 월드컵의 제출은 거절되는지 확인합니다.
+ */
+@ActiveProfiles("bench")
+@Import(BenchmarkConfig.class)
+@SpringBootTest(properties =
+	"spring.datasource.url=jdbc:h2:mem:worldcup-tournament;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+class TournamentRecordingTest {
+
+	@Autowired
+	private TournamentService tournamentService;
+
+	@Autowired
+	private WorldcupService worldcupService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private Leaderboard leaderboard;
+
+	private static BenchmarkSeeder.SeededData data;
+
+	@BeforeEach
+	void seed() {
+		if (data == null) {
+			data = new BenchmarkSeeder(jdbcTemplate).seed(3, 5, 10, 0, 0);
+			leaderboard.rebuild();
+		}
+	}
+
+	@Test
+	void submitPersistsResultForUser() {
+		long worldcupId = data.worldcupIds()[0];
+		TournamentService.StartedSession session = tournamentService.start(worldcupId, 3L);
+		long[] picks = firstPicks(session.bracket());
+		long expectedWinner = picks[picks.length - 1];
+		int winsBefore = leaderboard.entry(expectedWinner).winCount();
+
+		long winnerId = tournamentService.submit(worldcupId, session.token(), picks);
+
+		assertEquals(expectedWinner, winnerId);
+		assertEquals(1, countResults(worldcupId, 3L, winnerId));
+		assertEquals(winsBefore + 1, leaderboard.entry(winnerId).winCount()); // 커밋 후 메모리 랭킹에도 반영
+	}
+
+	@Test
+	void startRejectsMissingUserBeforeIssuingToken() {
+		long worldcupId = data.worldcupIds()[1];
+		assertThrows(IllegalArgumentException.class, () -> tournamentService.start(worldcupId, null));
+		assertEquals(0, jdbcTemplate.queryForObject("select count(*) from user_result where worldcup_id = ?", Long.class, worldcupId));
+	}
+
+	@Test
+	void submitAfterWorldcupDeletedIsRejected() {
+		long worldcupId = data.worldcupIds()[2];
+		TournamentService.StartedSession session = tournamentService.start(worldcupId, 4L);
+		// 💡 세션 목록에서 지우기 전에 제출된 경우를 흉내 내기 위해 서비스만 호출합니다. (AdminController는 세션도 버림)
+		worldcupService.deleteWorldcup(worldcupId);
+
+		assertThrows(IllegalArgumentException.class,
+			() -> tournamentService.submit(worldcupId, session.token(), firstPicks(session.bracket())));
+		assertEquals(0, jdbcTemplate.queryForObject("select count(*) from user_result where worldcup_id = ?", Long.class, worldcupId));
+	}
+
+	private long countResults(long worldcupId, long userId, long winnerId) {
+		return jdbcTemplate.queryForObject("select count(*) from user_result where worldcup_id = ? and user_id = ? and winner_id = ?",
+			Long.class, worldcupId, userId, winnerId);
+	}
+
+	// 매 대결에서 앞쪽 후보를 고르는 선택 목록 (부전승 규칙 포함)
+	private static long[] firstPicks(long[] bracket) {
+		long[] picks = new long[bracket.length - 1];
+		long[] current = bracket.clone();
+		int length = current.length;
+		int pickIndex = 0;
+		while (length > 1) {
+			int next = 0;
+			for (int i = 0; i + 1 < length; i += 2) {
+				picks[pickIndex++] = current[i];
+				current[next++] = current[i];
+			}
+			if (length % 2 == 1) {
+				current[next++] = current[length - 1];
+			}
+			length = next;
+		}
+		return picks;
+	}
+}
@@ -0,0 +1,166 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.codit.worldcup.domain.repository.CandidateRepository;
+import com.codit.worldcup.domain.repository.WorldcupRepository;
+
+/**
+ * 대진표 재생 검증(정상 진행, 대결 상대가 아닌 선택, 선택 수 불일치, 부전승)과 토너먼트 토큰의 만료/재사용 거절을 확인합니다.
+ */
+class TournamentServiceTest {
+
+	@Test
+	void replayReturnsWinnerOfValidBracket() {
+		long[] bracket = {1, 2, 3, 4};
+		// 1라운드: 1 vs 2 -> 2, 3 vs 4 -> 3 / 결승: 2 vs 3 -> 3
+		assertEquals(3L, TournamentService.replay(bracket, new long[] {2, 3, 3}));
+		assertArrayEquals(new long[] {1, 2, 3, 4}, bracket); // 대진표 자체는 바뀌지 않음
+	}
+
+	@Test
+	void replayRejectsPickOutsideMatch() {
+		long[] bracket = {1, 2, 3, 4};
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+			() -> TournamentService.replay(bracket, new long[] {2, 1, 2})); // 두 번째 대결은 3 vs 4
+		assertEquals("2번째 선택이 대진표와 일치하지 않습니다.", e.getMessage());
+
+		// 이미 탈락한 후보를 결승에서 고를 수 없습니다.
+		assertThrows(IllegalArgumentException.class, () -> TournamentService.replay(bracket, new long[] {2, 3, 1}));
+	}
+
+	@Test
+	void replayRejectsWrongPickCount() {
+		long[] bracket = {1, 2, 3, 4};
+		assertThrows(IllegalArgumentException.class, () -> TournamentService.replay(bracket, new long[] {2, 3}));
+		assertThrows(IllegalArgumentException.class, () -> TournamentService.replay(bracket, new long[] {2, 3, 3, 3}));
+		assertThrows(IllegalArgumentException.class, () -> TournamentService.replay(bracket, null));
+	}
+
+	@Test
+	void replayAdvancesOddCandidateByBye() {
+		long[] bracket = {1, 2, 3, 4, 5};
+		// 1라운드: 1 vs 2 -> 1, 3 vs 4 -> 4, 5 부전승 / 2라운드: 1 vs 4 -> 4, 5 부전승 / 결승: 4 vs 5 -> 5
+		assertEquals(5L, TournamentService.replay(bracket, new long[] {1, 4, 4, 5}));
+
+		// 부전승한 후보는 그 라운드에서 선택 대상이 아닙니다.
+		assertThrows(IllegalArgumentException.class, () -> TournamentService.replay(bracket, new long[] {1, 5, 4, 5}));
+	}
+
+	@Test
+	void submitRecordsOnceAndRejectsReusedToken() {
+		List<Long> recordedUsers = new ArrayList<>();
+		TournamentService service = tournamentService(recordedUsers, 60);
+
+		TournamentService.StartedSession session = service.start(10L, 7L);
+		long[] picks = winnerStaysOn(session.bracket());
+		assertEquals(picks[picks.length - 1], service.submit(10L, session.token(), picks));
+		assertEquals(List.of(7L), recordedUsers);
+
+		assertThrows(IllegalArgumentException.class, () -> service.submit(10L, session.token(), picks));
+		assertEquals(List.of(7L), recordedUsers);
+	}
+
+	@Test
+	void startRejectsMissingUser() {
+		TournamentService service = tournamentService(new ArrayList<>(), 60);
+		assertThrows(IllegalArgumentException.class, () -> service.start(10L, null));
+	}
+
+	@Test
+	void submitRejectsExpiredToken() throws InterruptedException {
+		List<Long> recordedUsers = new ArrayList<>();
+		TournamentService service = tournamentService(recordedUsers, 0);
+
+		TournamentService.StartedSession session = service.start(10L, 7L);
+		Thread.sleep(5); // TTL 0분이므로 시작 시각이 지나면 바로 만료
+
+		assertThrows(IllegalArgumentException.class,
+			() -> service.submit(10L, session.token(), winnerStaysOn(session.bracket())));
+		assertEquals(List.of(), recordedUsers);
+	}
+
+	@Test
+	void failedSubmitKeepsSessionForRetry() {
+		List<Long> recordedUsers = new ArrayList<>();
+		TournamentService service = tournamentService(recordedUsers, 60);
+
+		TournamentService.StartedSession session = service.start(10L, 7L);
+		assertThrows(IllegalArgumentException.class, () -> service.submit(10L, session.token(), new long[] {0}));
+		assertThrows(IllegalArgumentException.class,
+			() -> service.submit(20L, session.token(), winnerStaysOn(session.bracket())));
+
+		service.submit(10L, session.token(), winnerStaysOn(session.bracket()));
+		assertEquals(List.of(7L), recordedUsers);
+	}
+
+	@Test
+	void forgetWorldcupDropsItsSessions() {
+		List<Long> recordedUsers = new ArrayList<>();
+		TournamentService service = tournamentService(recordedUsers, 60);
+
+		TournamentService.StartedSession session = service.start(10L, 7L);
+		service.forgetWorldcup(10L);
+
+		assertThrows(IllegalArgumentException.class,
+			() -> service.submit(10L, session.token(), winnerStaysOn(session.bracket())));
+		assertEquals(List.of(), recordedUsers);
+	}
+
+	// 매 대결에서 앞쪽 후보를 고르는 선택 목록 (부전승 규칙 포함)
+	private static long[] winnerStaysOn(long[] bracket) {
+		long[] picks = new long[bracket.length - 1];
+		long[] current = bracket.clone();
+		int length = current.length;
+		int pickIndex = 0;
+		while (length > 1) {
+			int next = 0;
+			for (int i = 0; i + 1 < length; i += 2) {
+				picks[pickIndex++] = current[i];
+				current[next++] = current[i];
+			}
+			if (length % 2 == 1) {
+				current[next++] = current[length - 1];
+			}
+			length = next;
+		}
+		return picks;
+	}
+
+	private static TournamentService tournamentService(List<Long> recordedUsers, long sessionTtlMinutes) {
+		WorldcupRepository worldcupRepository = proxy(WorldcupRepository.class, "existsByIdAndDeletedFalse", true);
+		CandidateRepository candidateRepository = proxy(CandidateRepository.class, "findIdsByWorldcupId",
+			List.of(101L, 102L, 103L, 104L, 105L));
+		WorldcupService worldcupService = new WorldcupService(null, null, null, null, null, null, null, null, null, null,
+			null, null, null, null, null, null) {
+			@Override
+			public void recordTournament(Long worldcupId, long[] picks, Long userId) {
+				recordedUsers.add(userId);
+			}
+		};
+
+		TournamentService service = new TournamentService(candidateRepository, worldcupRepository, worldcupService);
+		ReflectionTestUtils.setField(service, "sessionTtlMinutes", sessionTtlMinutes);
+		ReflectionTestUtils.setField(service, "maxSessions", 100);
+		return service;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, String methodName, Object result) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+			if (method.getName().equals(methodName)) {
+				return result;
+			}
+			throw new UnsupportedOperationException(method.getName());
+		});
+	}
+}
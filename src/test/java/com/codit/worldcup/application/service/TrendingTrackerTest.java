@@ -0,0 +1,74 @@
+package com.codit.worldcup.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 인기 순위: 최근 선택 수 순 정렬, limit, 캐시된 순위의 재사용/무효화, 추적 수 제한, 창 설정 검증을 확인합니다.
+ */
+class TrendingTrackerTest {
+
+	@Test
+	void ranksBySelectionsInWindow() {
+		TrendingTracker tracker = new TrendingTracker(List.of("1h", "24h"), 100, 0);
+		record(tracker, 1L, 3);
+		record(tracker, 2L, 5);
+		record(tracker, 3L, 1);
+
+		List<TrendingTracker.Trend> trends = tracker.top("1h", 10);
+		assertEquals(List.of(2L, 1L, 3L), ids(trends));
+		assertEquals(5L, trends.get(0).selections());
+		assertTrue(trends.get(0).score() > trends.get(1).score());
+
+		assertEquals(List.of(2L, 1L), ids(tracker.top("24h", 2)));
+	}
+
+	@Test
+	void reusesRankingUntilRefreshAndForgetInvalidatesIt() {
+		TrendingTracker tracker = new TrendingTracker(List.of("1h"), 100, 60_000);
+		record(tracker, 1L, 2);
+		assertEquals(List.of(1L), ids(tracker.top("1h", 10)));
+
+		record(tracker, 2L, 5); // refresh-ms가 지나기 전에는 이전 순위를 그대로 사용
+		assertEquals(List.of(1L), ids(tracker.top("1h", 10)));
+
+		tracker.forget(1L); // 삭제된 월드컵은 캐시된 순위에서도 바로 빠짐
+		assertEquals(List.of(2L), ids(tracker.top("1h", 10)));
+	}
+
+	@Test
+	void dropsQuietestWorldcupWhenFull() {
+		TrendingTracker tracker = new TrendingTracker(List.of("1h"), 2, 0);
+		record(tracker, 1L, 1);
+		record(tracker, 2L, 1);
+		record(tracker, 3L, 1);
+
+		List<Long> ids = ids(tracker.top("1h", 10));
+		assertEquals(2, ids.size());
+		assertTrue(ids.contains(3L)); // 새로 들어온 월드컵은 항상 추적됨
+	}
+
+	@Test
+	void rejectsUnknownOrMalformedWindow() {
+		TrendingTracker tracker = new TrendingTracker(List.of("30m"), 100, 0);
+		assertThrows(IllegalArgumentException.class, () -> tracker.top("1h", 10));
+
+		assertThrows(IllegalStateException.class, () -> new TrendingTracker(List.of("1w"), 100, 0));
+		assertThrows(IllegalStateException.class, () -> new TrendingTracker(List.of(), 100, 0));
+	}
+
+	private static void record(TrendingTracker tracker, Long worldcupId, int times) {
+		for (int i = 0; i < times; i++) {
+			tracker.record(worldcupId);
+		}
+	}
+
+	private static List<Long> ids(List<TrendingTracker.Trend> trends) {
+		return trends.stream().map(TrendingTracker.Trend::worldcupId).toList();
+	}
+}
@@ -0,0 +1,18 @@
+package com.codit.worldcup.benchmark;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 벤치마크 실행 시 실제 S3 대신 메모리 S3를 주입합니다.
+ */
+@TestConfiguration
+public class BenchmarkConfig {
+
+	@Bean
+	@Primary
+	public InMemoryS3Client inMemoryS3Client() {
+		return new InMemoryS3Client();
+	}
+}
@@ -0,0 +1,62 @@
+package com.codit.worldcup.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.hibernate.stat.Statistics;
+
+/**
+ * 벤치마크 결과를 표 형태로 만들어 콘솔과 build/reports/benchmark 아래 파일에 기록합니다.
+ */
+final class BenchmarkReport {
+
+	/**
+	 * 결과 한 줄 (SQL 수는 측정 구간 동안 Hibernate가 준비한 문장 수 / 요청 수)
+	 */
+	record Row(LoadGenerator.Result result, double statementsPerRequest) {
+	}
+
+	private BenchmarkReport() {
+	}
+
+	/**
+	 * 워밍업 후 시나리오를 실행하고, 측정 구간 동안의 SQL 수를 함께 기록합니다.
+	 */
+	static Row measure(LoadGenerator generator, Statistics statistics, String name, int requests, int warmup,
+		LoadGenerator.Scenario scenario) throws Exception {
+		generator.run(name, Math.min(warmup, requests), scenario);
+
+		long statementsBefore = statistics.getPrepareStatementCount();
+		LoadGenerator.Result result = generator.run(name, requests, scenario);
+		long statements = statistics.getPrepareStatementCount() - statementsBefore;
+		return new Row(result, (double) statements / result.requests());
+	}
+
+	static String format(String header, List<Row> rows) {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format("%n%s%n", header));
+		report.append(String.format("%-42s %8s %10s %9s %9s %9s %8s %7s%n",
+			"endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "sql/req", "errors"));
+		for (Row row : rows) {
+			LoadGenerator.Result result = row.result();
+			report.append(String.format("%-42s %8d %10.1f %9.2f %9.2f %9.2f %8.2f %7d%n",
+				result.name(), result.requests(), result.throughputPerSecond(),
+				result.percentileMillis(0.50), result.percentileMillis(0.99), result.percentileMillis(0.999),
+				row.statementsPerRequest(), result.errors()));
+		}
+		return report.toString();
+	}
+
+	static void write(String fileName, String report) throws IOException {
+		System.out.println(report);
+		Path reportFile = Path.of("build", "reports", "benchmark", fileName);
+		Files.createDirectories(reportFile.getParent());
+		Files.writeString(reportFile, report);
+	}
+
+	static long errors(List<Row> rows) {
+		return rows.stream().mapToLong(row -> row.result().errors()).sum();
+	}
+}
@@ -0,0 +1,94 @@
+package com.codit.worldcup.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 벤치마크용 데이터를 JDBC 배치 INSERT로 빠르게 채웁니다.
+ */
+public final class BenchmarkSeeder {
+
+	private static final int BATCH_SIZE = 1_000;
+	private static final long FIRST_CANDIDATE_ID = 1_000_000L;
+
+	/**
+	 * 시나리오에서 사용할 ID 목록
+	 */
+	public record SeededData(long[] worldcupIds, long[][] candidateIds, int userCount) {
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Random random = new Random(42);
+
+	public BenchmarkSeeder(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public SeededData seed(int worldcups, int candidatesPerWorldcup, int users, int results, int commentsPerWorldcup) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Object[]> userRows = new ArrayList<>(users);
+		for (int i = 1; i <= users; i++) {
+			userRows.add(new Object[] {(long) i, "bench-user-" + i, "USER"});
+		}
+		batchInsert("insert into user (id, nickname, role) values (?, ?, ?)", userRows);
+
+		long[] worldcupIds = new long[worldcups];
+		long[][] candidateIds = new long[worldcups][candidatesPerWorldcup];
+		List<Object[]> worldcupRows = new ArrayList<>(worldcups);
+		List<Object[]> candidateRows = new ArrayList<>(worldcups * candidatesPerWorldcup);
+		long candidateId = FIRST_CANDIDATE_ID;
+		for (int w = 0; w < worldcups; w++) {
+			long worldcupId = w + 1;
+			worldcupIds[w] = worldcupId;
+			worldcupRows.add(new Object[] {worldcupId, "벤치마크 월드컵 " + worldcupId, imageUrl("thumbnails", worldcupId), now});
+			for (int c = 0; c < candidatesPerWorldcup; c++) {
+				candidateIds[w][c] = candidateId;
+				candidateRows.add(new Object[] {candidateId, worldcupId, "후보 " + worldcupId + "-" + c,
+					imageUrl("candidates", candidateId), random.nextInt(1_000), random.nextInt(100_000)});
+				candidateId++;
+			}
+		}
+		batchInsert("insert into worldcup (id, title, thumbnail_url, deleted, created_at) values (?, ?, ?, false, ?)", worldcupRows);
+		batchInsert("insert into candidate (id, worldcup_id, name, image_url, win_count, total_selection_count)"
+			+ " values (?, ?, ?, ?, ?, ?)", candidateRows);
+		// IDENTITY 컬럼에 직접 ID를 넣었으므로 이후 생성되는 월드컵 ID가 겹치지 않도록 맞춰 둡니다.
+		jdbcTemplate.execute("alter table worldcup alter column id restart with " + (worldcups + 1));
+		jdbcTemplate.execute("alter table user alter column id restart with " + (users + 1));
+
+		List<Object[]> resultRows = new ArrayList<>(results);
+		for (int r = 1; r <= results; r++) {
+			int w = random.nextInt(worldcups);
+			long winnerId = candidateIds[w][random.nextInt(candidatesPerWorldcup)];
+			resultRows.add(new Object[] {(long) r, (long) random.nextInt(users) + 1, worldcupIds[w], winnerId, now});
+		}
+		batchInsert("insert into user_result (id, user_id, worldcup_id, winner_id, created_at) values (?, ?, ?, ?, ?)", resultRows);
+
+		List<Object[]> commentRows = new ArrayList<>(worldcups * commentsPerWorldcup);
+		long commentId = 1;
+		for (long worldcupId : worldcupIds) {
+			for (int i = 0; i < commentsPerWorldcup; i++) {
+				commentRows.add(new Object[] {commentId++, worldcupId, (long) random.nextInt(users) + 1,
+					"벤치마크 댓글 " + i, Timestamp.valueOf(now.toLocalDateTime().minusSeconds(i))});
+			}
+		}
+		batchInsert("insert into comment (id, worldcup_id, user_id, content, created_at) values (?, ?, ?, ?, ?)", commentRows);
+
+		return new SeededData(worldcupIds, candidateIds, users);
+	}
+
+	private void batchInsert(String sql, List<Object[]> rows) {
+		for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+			jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+		}
+	}
+
+	private static String imageUrl(String directory, long id) {
+		return "https://worldcup-bench.s3.ap-northeast-2.amazonaws.com/worldcup/" + directory + "/" + id + ".jpg";
+	}
+}
@@ -0,0 +1,256 @@
+package com.codit.worldcup.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.imageio.ImageIO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.codit.worldcup.application.service.Leaderboard;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 내장 H2 + 메모리 S3 위에서 애플리케이션 전체를 띄우고, 컨트롤러 엔드포인트에 동시 부하를 걸어
+ * 엔드포인트별 p50/p99/p99.9 지연 시간, 처리량, 요청당 SQL 수를 측정합니다.
+ * 💡 기본 테스트에서는 제외되며 ./gradlew benchmark 로 실행합니다. 규모는 -Dbench.* 시스템 속성으로 조절합니다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@Import(BenchmarkConfig.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class EndToEndThroughputBenchmark {
+
+	private static final int WORLDCUPS = Integer.getInteger("bench.worldcups", 50);
+	private static final int CANDIDATES = Integer.getInteger("bench.candidates", 32);
+	private static final int USERS = Integer.getInteger("bench.users", 1_000);
+	private static final int RESULTS = Integer.getInteger("bench.results", 20_000);
+	private static final int COMMENTS = Integer.getInteger("bench.comments", 50);
+	private static final int CONCURRENCY = Integer.getInteger("bench.concurrency", 16);
+	private static final int REQUESTS = Integer.getInteger("bench.requests", 2_000);
+	private static final int WARMUP = Integer.getInteger("bench.warmup", 200);
+	private static final int CREATES = Integer.getInteger("bench.creates", 50);
+
+	@Value("${local.server.port}")
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private Leaderboard leaderboard;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+	private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+	private BenchmarkSeeder.SeededData data;
+
+	@Test
+	void measureEndpoints() throws Exception {
+		data = new BenchmarkSeeder(jdbcTemplate).seed(WORLDCUPS, CANDIDATES, USERS, RESULTS, COMMENTS);
+		leaderboard.rebuild(); // 시드 데이터는 애플리케이션 기동 이후에 들어갔으므로 다시 적재
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<BenchmarkReport.Row> rows = new ArrayList<>();
+
+		try (LoadGenerator generator = new LoadGenerator(CONCURRENCY)) {
+			// 조회
+			rows.add(measure(generator, statistics, "GET /api/main", REQUESTS,
+				random -> get("/api/main")));
+			rows.add(measure(generator, statistics, "GET /api/worldcup/{id}", REQUESTS,
+				random -> get("/api/worldcup/" + worldcupId(random))));
+			rows.add(measure(generator, statistics, "GET /api/result/{id}/{winnerId}", REQUESTS, random -> {
+				int w = random.nextInt(data.worldcupIds().length);
+				return get("/api/result/" + data.worldcupIds()[w] + "/" + candidateId(random, w));
+			}));
+			rows.add(measure(generator, statistics, "GET /api/result/{id}/comments", REQUESTS,
+				random -> get("/api/result/" + worldcupId(random) + "/comments")));
+			rows.add(measure(generator, statistics, "GET /api/result/{id}/comments?size=20", REQUESTS,
+				random -> get("/api/result/" + worldcupId(random) + "/comments?size=20")));
+			rows.add(measure(generator, statistics, "GET /api/admin/rank/{id}?limit=20", REQUESTS,
+				random -> get("/api/admin/rank/" + worldcupId(random) + "?limit=20")));
+			rows.add(measure(generator, statistics, "GET /api/admin/rank/all?limit=20", REQUESTS,
+				random -> get("/api/admin/rank/all?limit=20")));
+			rows.add(measure(generator, statistics, "GET /api/admin/worldcup/{id}", REQUESTS,
+				random -> get("/api/admin/worldcup/" + worldcupId(random))));
+			rows.add(measure(generator, statistics, "GET /api/admin/images/status", REQUESTS,
+				random -> get("/api/admin/images/status")));
+
+			// 쓰기
+			rows.add(measure(generator, statistics, "POST /api/worldcup/{id}/select", REQUESTS,
+				this::select));
+			rows.add(measure(generator, statistics, "POST session + submit (tournament)", REQUESTS,
+				this::playTournament));
+			rows.add(measure(generator, statistics, "POST /api/result/{id}/comments", REQUESTS, random ->
+				postJson("/api/result/" + worldcupId(random) + "/comments",
+					"{\"userId\":" + userId(random) + ",\"content\":\"벤치마크 댓글\"}")));
+			rows.add(measure(generator, statistics, "POST /api/main/create", CREATES,
+				this::createWorldcup));
+		}
+
+		String report = BenchmarkReport.format(String.format(
+			"worldcups=%d candidates=%d users=%d results=%d comments=%d concurrency=%d",
+			WORLDCUPS, CANDIDATES, USERS, RESULTS, COMMENTS, CONCURRENCY), rows);
+		BenchmarkReport.write("e2e.txt", report);
+		assertEquals(0, BenchmarkReport.errors(rows), "실패한 요청이 있습니다.\n" + report);
+	}
+
+	private BenchmarkReport.Row measure(LoadGenerator generator, Statistics statistics, String name, int requests,
+		LoadGenerator.Scenario scenario) throws Exception {
+		return BenchmarkReport.measure(generator, statistics, name, requests, WARMUP, scenario);
+	}
+
+	private int select(ThreadLocalRandom random) throws Exception {
+		int w = random.nextInt(data.worldcupIds().length);
+		long winnerId = candidateId(random, w);
+		long loserId = candidateId(random, w);
+		int round = random.nextInt(8) == 0 ? 2 : 4;
+		return postJson("/api/worldcup/" + data.worldcupIds()[w] + "/select",
+			"{\"winnerId\":" + winnerId + ",\"loserId\":" + loserId + ",\"round\":" + round + ",\"userId\":" + userId(random) + "}");
+	}
+
+	// 토너먼트 한 판: 세션 시작 → 대진표대로 항상 왼쪽 후보를 선택 → 한 번에 제출
+	@SuppressWarnings("unchecked")
+	private int playTournament(ThreadLocalRandom random) throws Exception {
+		long worldcupId = worldcupId(random);
+		HttpResponse<String> started = httpClient.send(jsonRequest("/api/worldcup/" + worldcupId + "/session",
+			"{\"userId\":" + userId(random) + "}"), HttpResponse.BodyHandlers.ofString());
+		if (started.statusCode() >= 400) {
+			return started.statusCode();
+		}
+		Map<String, Object> session = objectMapper.readValue(started.body(), Map.class);
+		List<Number> bracket = (List<Number>) session.get("bracket");
+
+		long[] current = bracket.stream().mapToLong(Number::longValue).toArray();
+		long[] picks = new long[current.length - 1];
+		int pickIndex = 0;
+		int length = current.length;
+		while (length > 1) {
+			int next = 0;
+			for (int i = 0; i + 1 < length; i += 2) {
+				picks[pickIndex++] = current[i];
+				current[next++] = current[i];
+			}
+			if (length % 2 == 1) {
+				current[next++] = current[length - 1];
+			}
+			length = next;
+		}
+
+		StringBuilder body = new StringBuilder("{\"picks\":[");
+		for (int i = 0; i < picks.length; i++) {
+			body.append(i == 0 ? "" : ",").append(picks[i]);
+		}
+		body.append("]}");
+		return postJson("/api/worldcup/" + worldcupId + "/session/" + session.get("sessionToken"), body.toString());
+	}
+
+	// 후보 4명짜리 월드컵 생성 (매번 다른 이미지라 실제 PUT이 일어납니다)
+	private int createWorldcup(ThreadLocalRandom random) throws Exception {
+		String boundary = "bench-" + UUID.randomUUID();
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		writeTextPart(body, boundary, "title", "벤치마크 생성 월드컵");
+		writeTextPart(body, boundary, "candidatesDataJson",
+			"{\"candidates\":[{\"name\":\"A\"},{\"name\":\"B\"},{\"name\":\"C\"},{\"name\":\"D\"}]}");
+		writeFilePart(body, boundary, "thumbnail", "thumbnail.png", randomPng(random));
+		for (int i = 0; i < 4; i++) {
+			writeFilePart(body, boundary, "candidateFiles", "candidate" + i + ".png", randomPng(random));
+		}
+		body.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+		HttpRequest request = HttpRequest.newBuilder(uri("/api/main/create"))
+			.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+			.POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+			.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private static void writeTextPart(ByteArrayOutputStream body, String boundary, String name, String value) throws IOException {
+		body.write(("--" + boundary + "\r\n"
+			+ "Content-Disposition: form-data; name=\"" + name + "\"\r\n"
+			+ "Content-Type: text/plain; charset=UTF-8\r\n\r\n"
+			+ value + "\r\n").getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void writeFilePart(ByteArrayOutputStream body, String boundary, String name, String fileName, byte[] bytes) throws IOException {
+		body.write(("--" + boundary + "\r\n"
+			+ "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+			+ "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+		body.write(bytes);
+		body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static byte[] randomPng(ThreadLocalRandom random) throws IOException {
+		BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < 64; y++) {
+			for (int x = 0; x < 64; x++) {
+				image.setRGB(x, y, random.nextInt(0x1000000));
+			}
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", out);
+		return out.toByteArray();
+	}
+
+	private int get(String path) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(uri(path)).GET().build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private int postJson(String path, String json) throws Exception {
+		return httpClient.send(jsonRequest(path, json), HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private HttpRequest jsonRequest(String path, String json) {
+		return HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(json))
+			.build();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private long worldcupId(ThreadLocalRandom random) {
+		return data.worldcupIds()[random.nextInt(data.worldcupIds().length)];
+	}
+
+	private long candidateId(ThreadLocalRandom random, int worldcupIndex) {
+		long[] candidates = data.candidateIds()[worldcupIndex];
+		return candidates[random.nextInt(candidates.length)];
+	}
+
+	private long userId(ThreadLocalRandom random) {
+		return random.nextInt(data.userCount()) + 1;
+	}
+}
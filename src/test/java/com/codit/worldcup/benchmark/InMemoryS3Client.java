@@ -0,0 +1,96 @@
+package com.codit.worldcup.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+/**
+ * 벤치마크용 프로세스 내 S3. S3Service가 사용하는 요청(PUT/HEAD/GET/DeleteObjects)만 메모리에서 처리합니다.
+ * 💡 나머지 S3Client 메서드는 인터페이스 기본 구현대로 UnsupportedOperationException을 던집니다.
+ */
+public class InMemoryS3Client implements S3Client {
+
+	private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+	private final AtomicLong putCount = new AtomicLong();
+
+	private record StoredObject(byte[] bytes, String contentType) {
+	}
+
+	@Override
+	public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+		try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+			objects.put(request.bucket() + "/" + request.key(), new StoredObject(in.readAllBytes(), request.contentType()));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		putCount.incrementAndGet();
+		return PutObjectResponse.builder().build();
+	}
+
+	@Override
+	public HeadObjectResponse headObject(HeadObjectRequest request) {
+		StoredObject object = objects.get(request.bucket() + "/" + request.key());
+		if (object == null) {
+			throw NoSuchKeyException.builder().statusCode(404).message("No such key: " + request.key()).build();
+		}
+		return HeadObjectResponse.builder()
+			.contentLength((long) object.bytes().length)
+			.contentType(object.contentType())
+			.build();
+	}
+
+	@Override
+	public ResponseBytes<GetObjectResponse> getObjectAsBytes(GetObjectRequest request) {
+		StoredObject object = objects.get(request.bucket() + "/" + request.key());
+		if (object == null) {
+			throw NoSuchKeyException.builder().statusCode(404).message("No such key: " + request.key()).build();
+		}
+		GetObjectResponse response = GetObjectResponse.builder()
+			.contentLength((long) object.bytes().length)
+			.contentType(object.contentType())
+			.build();
+		return ResponseBytes.fromByteArray(response, object.bytes());
+	}
+
+	@Override
+	public DeleteObjectsResponse deleteObjects(DeleteObjectsRequest request) {
+		for (ObjectIdentifier identifier : request.delete().objects()) {
+			objects.remove(request.bucket() + "/" + identifier.key());
+		}
+		return DeleteObjectsResponse.builder().build();
+	}
+
+	public int objectCount() {
+		return objects.size();
+	}
+
+	public long putCount() {
+		return putCount.get();
+	}
+
+	@Override
+	public String serviceName() {
+		return SERVICE_NAME;
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,96 @@
+package com.codit.worldcup.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 하나의 시나리오를 정해진 동시성으로 정해진 횟수만큼 실행하고 지연 시간을 기록합니다.
+ */
+final class LoadGenerator implements AutoCloseable {
+
+	/**
+	 * 요청 한 번(또는 요청 묶음 하나)을 실행하고 HTTP 상태 코드를 반환합니다.
+	 */
+	@FunctionalInterface
+	interface Scenario {
+		int run(ThreadLocalRandom random) throws Exception;
+	}
+
+	/**
+	 * 시나리오 한 번의 실행 결과 (지연 시간은 나노초, 오름차순 정렬됨)
+	 */
+	record Result(String name, long[] latenciesNanos, long elapsedNanos, long errors) {
+
+		int requests() {
+			return latenciesNanos.length;
+		}
+
+		double throughputPerSecond() {
+			return requests() / (elapsedNanos / 1_000_000_000.0);
+		}
+
+		double percentileMillis(double quantile) {
+			if (latenciesNanos.length == 0) {
+				return 0;
+			}
+			int index = (int) Math.ceil(quantile * latenciesNanos.length) - 1;
+			return latenciesNanos[Math.max(0, Math.min(index, latenciesNanos.length - 1))] / 1_000_000.0;
+		}
+	}
+
+	private final int concurrency;
+	private final ExecutorService workers;
+
+	LoadGenerator(int concurrency) {
+		this.concurrency = concurrency;
+		this.workers = Executors.newFixedThreadPool(concurrency);
+	}
+
+	Result run(String name, int requests, Scenario scenario) throws Exception {
+		long[] latencies = new long[requests];
+		AtomicInteger next = new AtomicInteger();
+		AtomicLong errors = new AtomicLong();
+
+		List<Future<?>> futures = new ArrayList<>(concurrency);
+		long start = System.nanoTime();
+		for (int w = 0; w < concurrency; w++) {
+			futures.add(workers.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				int index;
+				while ((index = next.getAndIncrement()) < requests) {
+					long begin = System.nanoTime();
+					int status;
+					try {
+						status = scenario.run(random);
+					} catch (Exception e) {
+						status = -1;
+					}
+					latencies[index] = System.nanoTime() - begin;
+					if (status < 200 || status >= 400) {
+						errors.incrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		Arrays.sort(latencies);
+		return new Result(name, latencies, elapsed, errors.get());
+	}
+
+	@Override
+	public void close() {
+		workers.shutdownNow();
+	}
+}
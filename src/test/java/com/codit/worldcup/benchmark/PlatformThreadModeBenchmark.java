@@ -0,0 +1,10 @@
+package com.codit.worldcup.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"spring.threads.virtual.enabled=false",
+	"spring.datasource.url=jdbc:h2:mem:worldcup-platform;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1"
+})
+class PlatformThreadModeBenchmark extends ThreadModeBenchmark {
+}
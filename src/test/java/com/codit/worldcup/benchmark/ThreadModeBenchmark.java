@@ -0,0 +1,108 @@
+package com.codit.worldcup.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.codit.worldcup.application.service.Leaderboard;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드에서 선택 기록과 상세 조회 엔드포인트의 처리량과 지연 시간을 비교합니다.
+ * 💡 모드별 하위 클래스가 각자 애플리케이션을 띄우며, 결과는 build/reports/benchmark/threads-{모드}.txt 에 기록됩니다.
+ *    동시 요청 수(-Dbench.thread-mode.concurrency)를 Tomcat 기본 스레드 수(200)보다 크게 잡아야 차이가 드러납니다.
+ */
+@Tag("benchmark")
+@ActiveProfiles("bench")
+@Import(BenchmarkConfig.class)
+abstract class ThreadModeBenchmark {
+
+	private static final int CONCURRENCY = Integer.getInteger("bench.thread-mode.concurrency", 400);
+	private static final int REQUESTS = Integer.getInteger("bench.thread-mode.requests", 20_000);
+	private static final int WARMUP = Integer.getInteger("bench.warmup", 200);
+
+	@Value("${local.server.port}")
+	private int port;
+
+	@Value("${spring.threads.virtual.enabled}")
+	private boolean virtualThreads;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private Leaderboard leaderboard;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private final HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	private BenchmarkSeeder.SeededData data;
+
+	@Test
+	void compareSelectAndDetail() throws Exception {
+		data = new BenchmarkSeeder(jdbcTemplate).seed(50, 32, 1_000, 10_000, 10);
+		leaderboard.rebuild();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		List<BenchmarkReport.Row> rows = new ArrayList<>();
+		try (LoadGenerator generator = new LoadGenerator(CONCURRENCY)) {
+			rows.add(BenchmarkReport.measure(generator, statistics, "POST /api/worldcup/{id}/select", REQUESTS, WARMUP,
+				this::select));
+			rows.add(BenchmarkReport.measure(generator, statistics, "GET /api/worldcup/{id}", REQUESTS, WARMUP,
+				random -> get("/api/worldcup/" + worldcupId(random))));
+			// 응답 캐시를 거치지 않고 매번 DB를 조회하는 상세 (수정 폼용)
+			rows.add(BenchmarkReport.measure(generator, statistics, "GET /api/admin/worldcup/{id}", REQUESTS, WARMUP,
+				random -> get("/api/admin/worldcup/" + worldcupId(random))));
+		}
+
+		String mode = virtualThreads ? "virtual" : "platform";
+		String report = BenchmarkReport.format("threads=" + mode + " concurrency=" + CONCURRENCY, rows);
+		BenchmarkReport.write("threads-" + mode + ".txt", report);
+		assertEquals(0, BenchmarkReport.errors(rows), "실패한 요청이 있습니다.\n" + report);
+	}
+
+	private int select(ThreadLocalRandom random) throws Exception {
+		int w = random.nextInt(data.worldcupIds().length);
+		long[] candidates = data.candidateIds()[w];
+		int round = random.nextInt(8) == 0 ? 2 : 4;
+		String body = "{\"winnerId\":" + candidates[random.nextInt(candidates.length)]
+			+ ",\"loserId\":" + candidates[random.nextInt(candidates.length)]
+			+ ",\"round\":" + round + ",\"userId\":" + (random.nextInt(data.userCount()) + 1) + "}";
+		HttpRequest request = HttpRequest.newBuilder(uri("/api/worldcup/" + data.worldcupIds()[w] + "/select"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private int get(String path) throws Exception {
+		return httpClient.send(HttpRequest.newBuilder(uri(path)).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private long worldcupId(ThreadLocalRandom random) {
+		return data.worldcupIds()[random.nextInt(data.worldcupIds().length)];
+	}
+}
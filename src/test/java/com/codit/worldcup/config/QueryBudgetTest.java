@@ -0,0 +1,90 @@
+package com.codit.worldcup.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.codit.worldcup.application.service.Leaderboard;
+import com.codit.worldcup.benchmark.BenchmarkConfig;
+import com.codit.worldcup.benchmark.BenchmarkSeeder;
+
+/**
+ * 주요 조회/기록 API가 요청당 SQL 예산 안에서 동작하는지 확인합니다.
+ * 💡 fail-on-exceed 모드에서는 예산을 넘는 순간 요청이 실패하므로, N+1 조회가 다시 생기면 이 테스트가 깨집니다.
+ */
+@ActiveProfiles("bench")
+@Import(BenchmarkConfig.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+	"spring.datasource.url=jdbc:h2:mem:worldcup-query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+	"worldcup.query-budget.max-statements=3",
+	"worldcup.query-budget.fail-on-exceed=true"
+})
+class QueryBudgetTest {
+
+	@Value("${local.server.port}")
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private Leaderboard leaderboard;
+
+	private final HttpClient httpClient = HttpClient.newHttpClient();
+
+	private static BenchmarkSeeder.SeededData data;
+
+	@BeforeEach
+	void seed() {
+		if (data == null) {
+			data = new BenchmarkSeeder(jdbcTemplate).seed(3, 16, 50, 500, 30);
+			leaderboard.rebuild();
+		}
+	}
+
+	@Test
+	void readEndpointsStayWithinBudget() throws Exception {
+		long worldcupId = data.worldcupIds()[0];
+		long winnerId = data.candidateIds()[0][0];
+
+		assertEquals(200, get("/api/main"));
+		assertEquals(200, get("/api/worldcup/" + worldcupId));
+		assertEquals(200, get("/api/result/" + worldcupId + "/" + winnerId));
+		assertEquals(200, get("/api/result/" + worldcupId + "/comments"));
+		assertEquals(200, get("/api/result/" + worldcupId + "/comments?size=10"));
+		assertEquals(200, get("/api/admin/rank/" + worldcupId));
+		assertEquals(200, get("/api/admin/rank/all?limit=20"));
+		assertEquals(200, get("/api/admin/worldcup/" + worldcupId));
+	}
+
+	@Test
+	void selectionStaysWithinBudget() throws Exception {
+		long worldcupId = data.worldcupIds()[1];
+		long winnerId = data.candidateIds()[1][0];
+		long loserId = data.candidateIds()[1][1];
+
+		String body = "{\"winnerId\":" + winnerId + ",\"loserId\":" + loserId + ",\"round\":2,\"userId\":1}";
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/worldcup/" + worldcupId + "/select"))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+		assertEquals(204, httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+	}
+
+	private int get(String path) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+		return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+	}
+}
@@ -0,0 +1,159 @@
+package com.codit.worldcup.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 두 개의 내장 H2 DB(원본/복제본)로 읽기 전용 트랜잭션 라우팅, 장애 시 원본 전환, read-your-writes를 확인합니다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private SwitchableDataSource replica;
+	private ReplicaRoutingDataSource routing;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		DataSource primary = h2("routing-primary");
+		replica = new SwitchableDataSource(h2("routing-replica"));
+		createMarker(primary, "primary");
+		createMarker(replica, "replica");
+
+		routing = new ReplicaRoutingDataSource(primary, List.of(replica), 1);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReplicaRoutingDataSource.forcePrimary(false);
+	}
+
+	@Test
+	void readOnlyTransactionsGoToReplica() {
+		assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+	}
+
+	@Test
+	void readWriteTransactionsGoToPrimary() {
+		assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+	}
+
+	@Test
+	void failedReplicaFallsBackToPrimaryUntilHealthCheckRecovers() {
+		replica.setAvailable(false);
+		assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+		assertFalse(routing.isHealthy(0));
+
+		// 복구되어도 헬스 체크 전에는 원본을 계속 사용합니다.
+		replica.setAvailable(true);
+		assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+		routing.checkReplicas();
+		assertTrue(routing.isHealthy(0));
+		assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+	}
+
+	@Test
+	void healthCheckMarksUnreachableReplicaDown() {
+		replica.setAvailable(false);
+		routing.checkReplicas();
+
+		assertFalse(routing.isHealthy(0));
+		assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+	}
+
+	@Test
+	void readYourWritesForcesPrimary() {
+		ReplicaRoutingDataSource.forcePrimary(true);
+		assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+		ReplicaRoutingDataSource.forcePrimary(false);
+		assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+	}
+
+	@Test
+	void readOnlyInsideReadWriteTransactionStaysOnPrimary() {
+		// 💡 JsonResponseCache가 캐시를 채울 때 이 방식으로 원본에서 읽습니다.
+		assertEquals("primary", readWrite.execute(outer -> readOnly.execute(inner -> currentDatabase())));
+	}
+
+	@Test
+	void destroyClosesReplicaPools() {
+		routing.destroy();
+		assertTrue(replica.isClosed());
+	}
+
+	private String currentDatabase() {
+		return jdbcTemplate.queryForObject("select name from marker", String.class);
+	}
+
+	private static void createMarker(DataSource dataSource, String name) {
+		new JdbcTemplate(dataSource).batchUpdate(
+			"create table if not exists marker (name varchar(20))",
+			"delete from marker",
+			"insert into marker values ('" + name + "')");
+	}
+
+	private static DataSource h2(String name) {
+		return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+	}
+
+	/**
+	 * 커넥션 획득 실패를 흉내 낼 수 있는 DataSource
+	 */
+	private static class SwitchableDataSource extends DelegatingDataSource implements AutoCloseable {
+
+		private volatile boolean available = true;
+		private volatile boolean closed;
+
+		SwitchableDataSource(DataSource target) {
+			super(target);
+		}
+
+		void setAvailable(boolean available) {
+			this.available = available;
+		}
+
+		boolean isClosed() {
+			return closed;
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (!available) {
+				throw new SQLException("replica unavailable");
+			}
+			return super.getConnection();
+		}
+	}
+}
@@ -0,0 +1,58 @@
+-- 벤치마크 프로필(H2, MySQL 호환 모드)용 스키마. 엔티티 매핑과 같은 컬럼/인덱스를 유지해야 합니다.
+create table worldcup (
+	id bigint auto_increment primary key,
+	title varchar(255) not null,
+	thumbnail_url varchar(512),
+	thumbnail_preview_url varchar(512),
+	deleted boolean default false not null,
+	created_at timestamp(6) not null
+);
+create index idx_worldcup_thumbnail_url on worldcup (thumbnail_url);
+
+create table candidate (
+	id bigint primary key,
+	worldcup_id bigint not null,
+	name varchar(100) not null,
+	image_url varchar(512),
+	thumbnail_image_url varchar(512),
+	bracket_image_url varchar(512),
+	full_image_url varchar(512),
+	win_count integer not null,
+	total_selection_count integer not null
+);
+create index idx_candidate_worldcup on candidate (worldcup_id);
+create index idx_candidate_image_url on candidate (image_url);
+
+create table user (
+	id bigint auto_increment primary key,
+	nickname varchar(50) not null unique,
+	password varchar(255),
+	role varchar(10) not null
+);
+
+create table user_result (
+	id bigint primary key,
+	user_id bigint not null,
+	worldcup_id bigint not null,
+	winner_id bigint not null,
+	created_at timestamp(6) not null
+);
+create index idx_user_result_worldcup on user_result (worldcup_id);
+create index idx_user_result_winner_user on user_result (winner_id, user_id);
+
+create table comment (
+	id bigint primary key,
+	worldcup_id bigint not null,
+	user_id bigint not null,
+	content varchar(500) not null,
+	created_at timestamp(6) not null
+);
+create index idx_comment_worldcup_created_id on comment (worldcup_id, created_at, id);
+
+create table voter_sketch (
+	sketch_key varchar(40) primary key,
+	worldcup_id bigint not null,
+	registers varbinary(1024) not null,
+	estimate bigint not null
+);
+create index idx_voter_sketch_worldcup on voter_sketch (worldcup_id);